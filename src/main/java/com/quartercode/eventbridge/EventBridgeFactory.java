@@ -25,6 +25,8 @@ import com.quartercode.eventbridge.bridge.module.LocalHandlerSenderModule;
 import com.quartercode.eventbridge.bridge.module.LowLevelHandlerModule;
 import com.quartercode.eventbridge.bridge.module.SenderModule;
 import com.quartercode.eventbridge.bridge.module.StandardHandlerModule;
+import com.quartercode.eventbridge.extra.bridge.RingBufferBridge;
+import com.quartercode.eventbridge.extra.extension.AsyncDispatchExtension;
 import com.quartercode.eventbridge.extra.extension.ReturnEventExtensionRequester;
 import com.quartercode.eventbridge.extra.extension.ReturnEventExtensionReturner;
 import com.quartercode.eventbridge.extra.extension.SendPredicateCheckExtension;
@@ -43,6 +45,7 @@ public class EventBridgeFactory {
     static {
 
         factoryManager.setFactory(Bridge.class, new DefaultBridgeFactory());
+        factoryManager.setFactory(RingBufferBridge.class, new DefaultRingBufferBridgeFactory());
 
         factoryManager.setFactory(SenderModule.class, new DefaultSenderModuleFactory());
         factoryManager.setFactory(ConnectorSenderModule.class, new DefaultConnectorSenderModuleFactory());
@@ -54,6 +57,7 @@ public class EventBridgeFactory {
         factoryManager.setFactory(SendPredicateCheckExtension.class, new DefaultSendPredicateCheckExtensionFactory());
         factoryManager.setFactory(ReturnEventExtensionRequester.class, new DefaultReturnEventExtensionRequesterFactory());
         factoryManager.setFactory(ReturnEventExtensionReturner.class, new DefaultReturnEventExtensionReturnerFactory());
+        factoryManager.setFactory(AsyncDispatchExtension.class, new DefaultAsyncDispatchExtensionFactory());
 
     }
 
@@ -18,6 +18,14 @@
 
 package com.quartercode.eventbridge.basic;
 
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import com.quartercode.eventbridge.bridge.Event;
 import com.quartercode.eventbridge.bridge.EventPredicate;
 import com.quartercode.eventbridge.bridge.module.EventHandler;
@@ -31,6 +39,108 @@ import com.quartercode.eventbridge.bridge.module.EventHandler;
  */
 public class EventUtils {
 
+    private static final ClassValue<Class<? extends Event>> PREDICATE_EVENT_TYPES = new EventTypeClassValue(EventPredicate.class);
+    private static final ClassValue<Class<? extends Event>> HANDLER_EVENT_TYPES   = new EventTypeClassValue(EventHandler.class);
+
+    /**
+     * Resolves the {@link Event} type which is used as the first generic parameter of the given generic type by the given implementation type.
+     * For example, the event type of a class {@code SomePredicate implements EventPredicate<SomeEvent>} is {@code SomeEvent}.
+     * If the event type can't be resolved (e.g. because the implementation is generic itself), {@link Event} is returned.
+     * Note that this method doesn't cache its results.
+     * 
+     * @param type The implementation type whose event type should be resolved.
+     * @param genericType The generic type which declares the event type as its first type parameter (e.g. {@link EventPredicate}).
+     * @return The event type the given implementation type can process.
+     */
+    public static Class<? extends Event> resolveEventType(Class<?> type, Class<?> genericType) {
+
+        Type eventType = findTypeArgument(type, genericType, new HashMap<TypeVariable<?>, Type>());
+
+        if (eventType instanceof ParameterizedType) {
+            eventType = ((ParameterizedType) eventType).getRawType();
+        }
+        if (eventType instanceof Class && Event.class.isAssignableFrom((Class<?>) eventType)) {
+            return ((Class<?>) eventType).asSubclass(Event.class);
+        }
+
+        return Event.class;
+    }
+
+    private static Type findTypeArgument(Class<?> type, Class<?> genericType, Map<TypeVariable<?>, Type> typeArguments) {
+
+        List<Type> supertypes = new ArrayList<>();
+        if (type.getGenericSuperclass() != null) {
+            supertypes.add(type.getGenericSuperclass());
+        }
+        supertypes.addAll(Arrays.asList(type.getGenericInterfaces()));
+
+        for (Type supertype : supertypes) {
+            Class<?> rawSupertype;
+            Map<TypeVariable<?>, Type> supertypeArguments = new HashMap<>();
+
+            if (supertype instanceof ParameterizedType) {
+                rawSupertype = (Class<?>) ((ParameterizedType) supertype).getRawType();
+
+                // Map the type parameters of the supertype to the arguments; replace type variables which are already known
+                Type[] arguments = ((ParameterizedType) supertype).getActualTypeArguments();
+                TypeVariable<?>[] parameters = rawSupertype.getTypeParameters();
+                for (int index = 0; index < parameters.length; index++) {
+                    Type argument = arguments[index];
+                    if (typeArguments.containsKey(argument)) {
+                        argument = typeArguments.get(argument);
+                    }
+                    supertypeArguments.put(parameters[index], argument);
+                }
+            } else if (supertype instanceof Class) {
+                rawSupertype = (Class<?>) supertype;
+            } else {
+                continue;
+            }
+
+            if (rawSupertype == genericType) {
+                // The map is empty if the generic type is used as raw type
+                return supertypeArguments.get(genericType.getTypeParameters()[0]);
+            } else if (genericType.isAssignableFrom(rawSupertype)) {
+                Type typeArgument = findTypeArgument(rawSupertype, genericType, supertypeArguments);
+                if (typeArgument != null) {
+                    return typeArgument;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the type of {@link Event}s the given {@link EventPredicate} can test.
+     * That type is the generic parameter of the predicate.
+     * If the type can't be resolved, {@link Event} is returned.
+     * The result is cached for each predicate class.
+     * 
+     * @param predicate The event predicate whose event type should be returned.
+     * @return The type of events the given predicate can test.
+     * @see #resolveEventType(Class, Class)
+     */
+    public static Class<? extends Event> getEventType(EventPredicate<?> predicate) {
+
+        return PREDICATE_EVENT_TYPES.get(predicate.getClass());
+    }
+
+    /**
+     * Returns the type of {@link Event}s the given {@link EventHandler} can handle.
+     * That type is the generic parameter of the handler.
+     * If the type can't be resolved, {@link Event} is returned.
+     * The result is cached for each handler class.
+     * 
+     * @param handler The event handler whose event type should be returned.
+     * @return The type of events the given handler can handle.
+     * @see #resolveEventType(Class, Class)
+     */
+    public static Class<? extends Event> getEventType(EventHandler<?> handler) {
+
+        return HANDLER_EVENT_TYPES.get(handler.getClass());
+    }
+
     /**
      * Lets the given {@link EventPredicate} test the given {@link Event} and returns the result.
      * If the type of the event doesn't match the generic parameter of the predicate, this method returns {@code false}.
@@ -41,6 +151,11 @@ public class EventUtils {
      */
     public static <T extends Event> boolean tryTest(EventPredicate<T> predicate, Event event) {
 
+        // Avoid the expensive exception if the event type is known to be wrong
+        if (!getEventType(predicate).isInstance(event)) {
+            return false;
+        }
+
         try {
             @SuppressWarnings ("unchecked")
             T castedEvent = (T) event;
@@ -59,6 +174,11 @@ public class EventUtils {
      */
     public static <T extends Event> void tryHandle(EventHandler<T> handler, Event event) {
 
+        // Avoid the expensive exception if the event type is known to be wrong
+        if (!getEventType(handler).isInstance(event)) {
+            return;
+        }
+
         try {
             @SuppressWarnings ("unchecked")
             T castedEvent = (T) event;
@@ -72,4 +192,30 @@ public class EventUtils {
 
     }
 
+    /**
+     * A {@link ClassValue} which resolves the event types of implementations of a specific generic type.
+     * It is used for caching the results of {@link EventUtils#resolveEventType(Class, Class)}.
+     */
+    public static class EventTypeClassValue extends ClassValue<Class<? extends Event>> {
+
+        private final Class<?> genericType;
+
+        /**
+         * Creates a new event type class value which resolves the event types that are declared for the given generic type.
+         * 
+         * @param genericType The generic type which declares the event type as its first type parameter (e.g. {@link EventPredicate}).
+         */
+        public EventTypeClassValue(Class<?> genericType) {
+
+            this.genericType = genericType;
+        }
+
+        @Override
+        protected Class<? extends Event> computeValue(Class<?> type) {
+
+            return resolveEventType(type, genericType);
+        }
+
+    }
+
 }
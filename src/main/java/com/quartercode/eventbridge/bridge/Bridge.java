@@ -18,6 +18,7 @@
 
 package com.quartercode.eventbridge.bridge;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -79,6 +80,15 @@ public interface Bridge {
      */
     public void send(Event event);
 
+    /**
+     * Passes all given {@link Event}s to the bridge's sender module, in iteration order.
+     * In contrast to calling {@link #send(Event)} for every event, the modules pass the events on to each other as a batch.
+     * For example, all events might be handled locally before the first one is sent to the connectors.
+     * 
+     * @param events The events that should be passed to the sender module.
+     */
+    public void send(Collection<? extends Event> events);
+
     /**
      * Passes the given {@link Event} to the bridge's handler module.
      * 
@@ -88,6 +98,16 @@ public interface Bridge {
      */
     public void handle(Event event, BridgeConnector source);
 
+    /**
+     * Passes all given {@link Event}s to the bridge's handler module, in iteration order.
+     * In contrast to calling {@link #handle(Event, BridgeConnector)} for every event, the modules pass the events on to each other as a batch.
+     * 
+     * @param events The events that should be passed to the handler module.
+     * @param source The {@link BridgeConnector} which received the events.
+     *        May be {@code null} if the events were sent from the same bridge they are handled by.
+     */
+    public void handle(Collection<? extends Event> events, BridgeConnector source);
+
     // ----- Connectors -----
 
     /**
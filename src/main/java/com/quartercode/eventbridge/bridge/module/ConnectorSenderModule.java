@@ -18,6 +18,7 @@
 
 package com.quartercode.eventbridge.bridge.module;
 
+import java.util.Collection;
 import com.quartercode.eventbridge.bridge.Bridge;
 import com.quartercode.eventbridge.bridge.BridgeConnector;
 import com.quartercode.eventbridge.bridge.BridgeModule;
@@ -60,6 +61,14 @@ public interface ConnectorSenderModule extends BridgeModule {
      */
     public void send(Event event);
 
+    /**
+     * Sends all given {@link Event}s through the global connector send channel, in iteration order.
+     * The result is the same as calling {@link #send(Event)} for every event.
+     * 
+     * @param events The events which should be sent through the global connector send channel.
+     */
+    public void send(Collection<? extends Event> events);
+
     /**
      * The interceptor which is used in the global connector send channel of a {@link ConnectorSenderModule}.
      * 
@@ -18,6 +18,7 @@
 
 package com.quartercode.eventbridge.bridge.module;
 
+import java.util.Collection;
 import com.quartercode.eventbridge.bridge.Bridge;
 import com.quartercode.eventbridge.bridge.BridgeConnector;
 import com.quartercode.eventbridge.bridge.BridgeModule;
@@ -51,6 +52,17 @@ public interface HandlerModule extends BridgeModule {
      */
     public void handle(Event event, BridgeConnector source);
 
+    /**
+     * Sends all given {@link Event}s through the handle channel ({@link #getChannel()}), in iteration order.
+     * The interceptors are still invoked for every event.
+     * However, the modules which divert the events out of the channel receive all of their events at once after the whole batch went through the channel.
+     * 
+     * @param events The events which should be sent through the handle channel.
+     * @param source The {@link BridgeConnector} which received the events.
+     *        May be {@code null} if the handled events were sent from the same bridge as the one which is handling them.
+     */
+    public void handle(Collection<? extends Event> events, BridgeConnector source);
+
     /**
      * The interceptor which is used in the handle channel of a {@link HandlerModule}.
      * 
@@ -0,0 +1,48 @@
+/*
+ * This file is part of EventBridge.
+ * Copyright (c) 2014 QuarterCode <http://www.quartercode.com/>
+ *
+ * EventBridge is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of
+ * the License, or (at your option) any later version.
+ *
+ * EventBridge is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EventBridge. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.quartercode.eventbridge.bridge.module;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import com.quartercode.eventbridge.bridge.Event;
+
+/**
+ * The handles annotation marks methods which should be registered as {@link EventHandler}s by {@link StandardHandlerModule#addAnnotatedHandlers(Object)}.
+ * An annotated method must take exactly one parameter, whose type must be a subtype of {@link Event}.
+ * The method is then invoked for all events which are instances of that parameter type.
+ * For example, the following method would be invoked for all {@code SomeEvent}s:
+ * 
+ * <pre>
+ * &#64;Handles
+ * public void handleSomeEvent(SomeEvent event) {
+ *     ...
+ * }
+ * </pre>
+ * 
+ * @see StandardHandlerModule#addAnnotatedHandlers(Object)
+ */
+@Documented
+@Retention (RetentionPolicy.RUNTIME)
+@Target (ElementType.METHOD)
+public @interface Handles {
+
+}
@@ -18,6 +18,7 @@
 
 package com.quartercode.eventbridge.bridge.module;
 
+import java.util.Collection;
 import com.quartercode.eventbridge.bridge.Bridge;
 import com.quartercode.eventbridge.bridge.BridgeConnector;
 import com.quartercode.eventbridge.bridge.BridgeModule;
@@ -51,6 +52,15 @@ public interface LocalHandlerSenderModule extends BridgeModule {
      */
     public void send(Event event);
 
+    /**
+     * Sends all given {@link Event}s through the local handler send channel, in iteration order.
+     * The interceptors are still invoked for every event.
+     * However, the events which reach the end of the channel are passed to the bridge's handle method at once after the whole batch went through the channel.
+     * 
+     * @param events The events which should be sent through the local handler send channel.
+     */
+    public void send(Collection<? extends Event> events);
+
     /**
      * The interceptor which is used in the local handler send channel of a {@link LocalHandlerSenderModule}.
      * 
@@ -18,6 +18,7 @@
 
 package com.quartercode.eventbridge.bridge.module;
 
+import java.util.Collection;
 import java.util.List;
 import com.quartercode.eventbridge.bridge.BridgeConnector;
 import com.quartercode.eventbridge.bridge.BridgeModule;
@@ -61,12 +62,32 @@ public interface LowLevelHandlerModule extends BridgeModule {
      */
     public void removeHandler(LowLevelHandler handler);
 
+    /**
+     * Adds all given {@link LowLevelHandler}s to the low-level handle module at once.
+     * They'll start listening for incoming {@link Event}s that match their {@link EventPredicate}s ({@link LowLevelHandler#getPredicate()}).
+     * In contrast to calling {@link #addHandler(LowLevelHandler)} for every handler, the {@link ModifyLowLevelHandlerListListener}s are only notified once.
+     * 
+     * @param handlers The new low-level handlers that should start listening on the low-level handle module.
+     */
+    public void addHandlers(Collection<? extends LowLevelHandler> handlers);
+
+    /**
+     * Removes all given {@link LowLevelHandler}s from the low-level handle module at once.
+     * They'll stop listening for incoming {@link Event}s.
+     * In contrast to calling {@link #removeHandler(LowLevelHandler)} for every handler, the {@link ModifyLowLevelHandlerListListener}s are only notified once.
+     * 
+     * @param handlers The low-level handlers that should stop listening on the low-level handle module.
+     */
+    public void removeHandlers(Collection<? extends LowLevelHandler> handlers);
+
     /**
      * Adds the given {@link ModifyLowLevelHandlerListListener} that is called when a {@link LowLevelHandler} is added or removed.
      * 
      * @param listener The listener that should be added.
      * @see #addHandler(LowLevelHandler)
      * @see #removeHandler(LowLevelHandler)
+     * @see #addHandlers(Collection)
+     * @see #removeHandlers(Collection)
      */
     public void addModifyHandlerListListener(ModifyLowLevelHandlerListListener listener);
 
@@ -76,6 +97,8 @@ public interface LowLevelHandlerModule extends BridgeModule {
      * @param listener The listener that should be removed.
      * @see #addHandler(LowLevelHandler)
      * @see #removeHandler(LowLevelHandler)
+     * @see #addHandlers(Collection)
+     * @see #removeHandlers(Collection)
      */
     public void removeModifyHandlerListListener(ModifyLowLevelHandlerListListener listener);
 
@@ -105,6 +128,18 @@ public interface LowLevelHandlerModule extends BridgeModule {
      */
     public void handle(Event event, BridgeConnector source);
 
+    /**
+     * Sends all given {@link Event}s through the global low-level handle channel ({@link #getGlobalChannel()}), in iteration order.
+     * The interceptors are still invoked for every event.
+     * However, the matching {@link LowLevelHandler}s are looked up for the whole batch at once after it went through the channel.
+     * Afterwards, the specific low-level handle channel ({@link #getSpecificChannel()}) is invoked for every event and matching handler.
+     * 
+     * @param events The events which should be sent through the global low-level handle channel.
+     * @param source The {@link BridgeConnector} which received the events.
+     *        May be {@code null} if the handled events were sent from the same bridge as the one which is handling them.
+     */
+    public void handle(Collection<? extends Event> events, BridgeConnector source);
+
     /**
      * A modify low-level handler list listener is called when a {@link LowLevelHandler} is added to or removed from a {@link LowLevelHandlerModule}.
      */
@@ -128,6 +163,28 @@ public interface LowLevelHandlerModule extends BridgeModule {
          */
         public void onRemoveHandler(LowLevelHandler handler, LowLevelHandlerModule module);
 
+        /**
+         * This method is invoked when the given {@link LowLevelHandler}s are being added to the given {@link LowLevelHandlerModule} at once.
+         * It is called after the handlers are added.
+         * Note that {@link #onAddHandler(LowLevelHandler, LowLevelHandlerModule)} is not called for the individual handlers.
+         * 
+         * @param handlers The low-level handlers that are added to the low-level handler module.
+         * @param module The low-level handler module the given handlers are added to.
+         * @see LowLevelHandlerModule#addHandlers(Collection)
+         */
+        public void onAddHandlers(List<LowLevelHandler> handlers, LowLevelHandlerModule module);
+
+        /**
+         * This method is invoked when the given {@link LowLevelHandler}s are being removed from the given {@link LowLevelHandlerModule} at once.
+         * It is called before the handlers are removed.
+         * Note that {@link #onRemoveHandler(LowLevelHandler, LowLevelHandlerModule)} is not called for the individual handlers.
+         * 
+         * @param handlers The low-level handlers that are removed from the low-level handler module.
+         * @param module The low-level handler module the given handlers are removed from.
+         * @see LowLevelHandlerModule#removeHandlers(Collection)
+         */
+        public void onRemoveHandlers(List<LowLevelHandler> handlers, LowLevelHandlerModule module);
+
     }
 
     /**
@@ -18,6 +18,7 @@
 
 package com.quartercode.eventbridge.bridge.module;
 
+import java.util.Collection;
 import com.quartercode.eventbridge.bridge.Bridge;
 import com.quartercode.eventbridge.bridge.BridgeModule;
 import com.quartercode.eventbridge.bridge.Event;
@@ -48,6 +49,16 @@ public interface SenderModule extends BridgeModule {
      */
     public void send(Event event);
 
+    /**
+     * Sends all given {@link Event}s through the send channel, in iteration order.
+     * The interceptors are still invoked for every event.
+     * However, the modules which divert the events out of the channel receive all of their events at once after the whole batch went through the channel.
+     * Therefore, the local handlers might receive all events before the first one is sent to the connectors.
+     * 
+     * @param events The events which should be sent through the send channel.
+     */
+    public void send(Collection<? extends Event> events);
+
     /**
      * The interceptor which is used in the send channel of a {@link SenderModule}.
      * 
@@ -18,6 +18,8 @@
 
 package com.quartercode.eventbridge.bridge.module;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import com.quartercode.eventbridge.bridge.BridgeConnector;
 import com.quartercode.eventbridge.bridge.BridgeModule;
@@ -52,6 +54,19 @@ public interface StandardHandlerModule extends BridgeModule {
      */
     public void addHandler(EventHandler<?> handler, EventPredicate<?> predicate);
 
+    /**
+     * Adds the given {@link EventHandler} to the standard handler module, but only keeps a weak reference to it.
+     * It'll start listening for incoming {@link Event}s that match the given {@link EventPredicate}.
+     * However, as soon as the handler isn't strongly referenced anywhere else, it may be garbage-collected.
+     * After that, it is removed from the module automatically.
+     * That way, handlers which belong to short-lived objects (like sessions) don't need to be removed explicitly.
+     * Weakly referenced handlers can still be removed using {@link #removeHandler(EventHandler)}.
+     * 
+     * @param handler The new event handler that should start listening on the standard handler module as long as it is strongly referenced somewhere else.
+     * @param predicate An event predicate that decides which events pass into the handler.
+     */
+    public void addWeakHandler(EventHandler<?> handler, EventPredicate<?> predicate);
+
     /**
      * Removes the given {@link EventHandler} from the standard handler module.
      * It'll stop listening for incoming {@link Event}s.
@@ -60,6 +75,43 @@ public interface StandardHandlerModule extends BridgeModule {
      */
     public void removeHandler(EventHandler<?> handler);
 
+    /**
+     * Adds all given {@link EventHandler}s to the standard handler module at once.
+     * They'll start listening for incoming {@link Event}s that match their {@link EventPredicate}s.
+     * In contrast to calling {@link #addHandler(EventHandler, EventPredicate)} for every handler, the handlers are passed to the {@link LowLevelHandlerModule} as one batch.
+     * 
+     * @param handlers The new event handlers that should start listening on the standard handler module, mapped to the event predicates that decide which events pass into them.
+     */
+    public void addHandlers(Map<? extends EventHandler<?>, ? extends EventPredicate<?>> handlers);
+
+    /**
+     * Removes all given {@link EventHandler}s from the standard handler module at once.
+     * They'll stop listening for incoming {@link Event}s.
+     * In contrast to calling {@link #removeHandler(EventHandler)} for every handler, the handlers are removed from the {@link LowLevelHandlerModule} as one batch.
+     * 
+     * @param handlers The event handlers that should stop listening on the standard handler module.
+     */
+    public void removeHandlers(Collection<? extends EventHandler<?>> handlers);
+
+    /**
+     * Scans the given object for methods which are annotated with {@link Handles} and adds an {@link EventHandler} for each of them.
+     * Each of those handlers is invoked for all {@link Event}s which are instances of the parameter type of its method.
+     * Note that the handlers are added as one batch using {@link #addHandlers(Map)}.
+     * 
+     * @param object The object whose annotated methods should start listening on the standard handler module.
+     * @return The event handlers which were created for the annotated methods.
+     * @throws IllegalArgumentException One of the annotated methods doesn't take exactly one event parameter.
+     * @see Handles
+     */
+    public List<EventHandler<?>> addAnnotatedHandlers(Object object);
+
+    /**
+     * Removes all {@link EventHandler}s which were created for the annotated methods of the given object by {@link #addAnnotatedHandlers(Object)}.
+     * 
+     * @param object The object whose annotated methods should stop listening on the standard handler module.
+     */
+    public void removeAnnotatedHandlers(Object object);
+
     /**
      * Adds the given {@link ModifyStandardHandlerListListener} that is called when an {@link EventHandler} is added or removed.
      * 
@@ -82,4 +82,28 @@ public interface Channel<T> {
      */
     public ChannelInvocation<T> invoke();
 
+    /**
+     * Creates a new {@link ChannelInvocation} instance which handles the invocation of all interceptors that are interested in the given filter type.
+     * All {@link FilteringInterceptor}s which don't care about the filter type are skipped.
+     * For example, channels which transport events could use the type of the transported event as filter type.
+     * The returned invocation can be started in the same way as an unfiltered one ({@link #invoke()}).
+     * 
+     * @param filterType The type of the object which is transported by the new invocation.
+     *        If this is {@code null}, no interceptors are skipped.
+     * @return A new channel invocation instance for the channel.
+     * @see FilteringInterceptor
+     */
+    public ChannelInvocation<T> invoke(Class<?> filterType);
+
+    /**
+     * Returns whether the given interceptor is the only one that would be called by an invocation which is created using {@link #invoke(Class)} with the given filter type.
+     * That allows callers which own the last interceptor of a channel to skip the creation of an invocation as long as no other interceptors are interested in the filter type.
+     * 
+     * @param interceptor The interceptor which should be the only interested one.
+     * @param filterType The type of the object which would be transported by the invocation.
+     *        If this is {@code null}, no interceptors are skipped.
+     * @return Whether the given interceptor is the only one which is interested in the given filter type.
+     */
+    public boolean isOnlyInterceptor(T interceptor, Class<?> filterType);
+
 }
@@ -0,0 +1,44 @@
+/*
+ * This file is part of EventBridge.
+ * Copyright (c) 2014 QuarterCode <http://www.quartercode.com/>
+ *
+ * EventBridge is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of
+ * the License, or (at your option) any later version.
+ *
+ * EventBridge is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EventBridge. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.quartercode.eventbridge.channel;
+
+/**
+ * Filtering interceptors are interceptors which only care about channel invocations that transport objects of certain types.
+ * If an interceptor implements this interface, a {@link Channel} skips it in all invocations whose filter type ({@link Channel#invoke(Class)})
+ * is not assignable to any of the types returned by {@link #getFilterTypes()}.
+ * For example, an interceptor of a channel that transports events could only be interested in one specific event type.<br>
+ * <br>
+ * Skipping an interceptor must have the same effect as calling it.
+ * Therefore, a filtering interceptor must directly call the next interceptor if it is invoked with an object it doesn't care about.
+ * That way, the interceptor also works with invocations that are not filtered ({@link Channel#invoke()}).
+ * 
+ * @see Channel#invoke(Class)
+ */
+public interface FilteringInterceptor {
+
+    /**
+     * Returns the types of the objects the filtering interceptor cares about.
+     * The interceptor is only invoked if the filter type of a channel invocation is assignable to at least one of these types.
+     * Since channels might cache the result, this method must always return the same types.
+     * 
+     * @return The types of the objects the interceptor should be invoked for.
+     */
+    public Class<?>[] getFilterTypes();
+
+}
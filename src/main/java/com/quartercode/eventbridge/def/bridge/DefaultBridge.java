@@ -19,8 +19,13 @@
 package com.quartercode.eventbridge.def.bridge;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.apache.commons.lang3.Validate;
 import com.quartercode.eventbridge.bridge.Bridge;
 import com.quartercode.eventbridge.bridge.BridgeConnector;
@@ -37,17 +42,26 @@ import com.quartercode.eventbridge.def.bridge.module.DefaultSenderModule;
 import com.quartercode.eventbridge.def.bridge.module.DefaultStandardHandlerModule;
 
 /**
- * The default implementation of the {@link Bridge} interface.
+ * The default implementation of the {@link Bridge} interface.<br>
+ * <br>
+ * Default bridges are thread-safe.
+ * The modules, connectors and listeners are stored in copy-on-write structures.
+ * That means that reading methods like {@link #send(Event)}, {@link #handle(Event, BridgeConnector)}, {@link #getModule(Class)}
+ * and {@link #getConnectors()} never block and always work on a consistent snapshot.
+ * For example, a connector which is added while an event is being sent either receives the event or doesn't, but the sending thread never fails.
+ * Every modification is published atomically.
+ * Module modifications are additionally synchronized with each other.
+ * However, connectors are started and stopped without holding any lock since they might call other bridges.
  * 
  * @see Bridge
  */
 public class DefaultBridge implements Bridge {
 
-    private final List<BridgeModule>                modules                      = new ArrayList<>();
+    private volatile ModuleSnapshot                 modules                      = new ModuleSnapshot(new BridgeModule[0]);
 
-    private final List<BridgeConnector>             connectors                   = new ArrayList<>();
-    private final List<ModifyConnectorListListener> modifyConnectorListListeners = new ArrayList<>();
-    private List<BridgeConnector>                   connectorsUnmodifiableCache;
+    private final List<BridgeConnector>             connectors                   = new CopyOnWriteArrayList<>();
+    private final List<BridgeConnector>             connectorsUnmodifiable       = Collections.unmodifiableList(connectors);
+    private final List<ModifyConnectorListListener> modifyConnectorListListeners = new CopyOnWriteArrayList<>();
 
     /**
      * Creates a new default bridge.
@@ -70,33 +84,27 @@ public class DefaultBridge implements Bridge {
 
         Validate.notNull(type, "Module type for module retrieval cannot be null");
 
-        for (BridgeModule module : modules) {
-            if (type.isInstance(module)) {
-                return type.cast(module);
-            }
-        }
-
-        return null;
+        return modules.getModule(type);
     }
 
     @Override
-    public void addModule(BridgeModule module) {
+    public synchronized void addModule(BridgeModule module) {
 
         Validate.notNull(module, "The module to add to a bridge cannot be null");
         Validate.isTrue(getModule(module.getClass()) == null, "Module of type '%s' is already added to the bridge", module.getClass().getName());
 
-        modules.add(module);
+        modules = modules.with(module);
         module.add(this);
     }
 
     @Override
-    public void removeModule(BridgeModule module) {
+    public synchronized void removeModule(BridgeModule module) {
 
         Validate.notNull(module, "The module to remove from a bridge cannot be null");
 
         if (modules.contains(module)) {
             module.remove();
-            modules.remove(module);
+            modules = modules.without(module);
         }
     }
 
@@ -105,13 +113,25 @@ public class DefaultBridge implements Bridge {
     @Override
     public void send(Event event) {
 
-        getModule(SenderModule.class).send(event);
+        modules.senderModule.send(event);
+    }
+
+    @Override
+    public void send(Collection<? extends Event> events) {
+
+        modules.senderModule.send(events);
     }
 
     @Override
     public void handle(Event event, BridgeConnector source) {
 
-        getModule(HandlerModule.class).handle(event, source);
+        modules.handlerModule.handle(event, source);
+    }
+
+    @Override
+    public void handle(Collection<? extends Event> events, BridgeConnector source) {
+
+        modules.handlerModule.handle(events, source);
     }
 
     // ----- Connectors -----
@@ -119,24 +139,18 @@ public class DefaultBridge implements Bridge {
     @Override
     public List<BridgeConnector> getConnectors() {
 
-        if (connectorsUnmodifiableCache == null) {
-            connectorsUnmodifiableCache = Collections.unmodifiableList(connectors);
-        }
-
-        return connectorsUnmodifiableCache;
+        return connectorsUnmodifiable;
     }
 
     @Override
     public void addConnector(BridgeConnector connector) throws BridgeConnectorException {
 
         connectors.add(connector);
-        connectorsUnmodifiableCache = null;
 
         try {
             connector.start(this);
         } catch (BridgeConnectorException e) {
             connectors.remove(connector);
-            connectorsUnmodifiableCache = null;
             throw e;
         }
 
@@ -157,7 +171,6 @@ public class DefaultBridge implements Bridge {
                 connector.stop();
             } finally {
                 connectors.remove(connector);
-                connectorsUnmodifiableCache = null;
             }
         }
     }
@@ -174,4 +187,65 @@ public class DefaultBridge implements Bridge {
         modifyConnectorListListeners.remove(listener);
     }
 
+    // Every module modification creates a new snapshot, so the lookup cache never needs to be invalidated
+    // Types without a matching module are not cached and therefore always looked up again
+    private static class ModuleSnapshot {
+
+        private final BridgeModule[]              modules;
+        private final Map<Class<?>, BridgeModule> moduleCache = new ConcurrentHashMap<>();
+        private final SenderModule                senderModule;
+        private final HandlerModule               handlerModule;
+
+        private ModuleSnapshot(BridgeModule[] modules) {
+
+            this.modules = modules;
+
+            senderModule = getModule(SenderModule.class);
+            handlerModule = getModule(HandlerModule.class);
+        }
+
+        private <T extends BridgeModule> T getModule(Class<T> type) {
+
+            BridgeModule cachedModule = moduleCache.get(type);
+            if (cachedModule != null) {
+                return type.cast(cachedModule);
+            }
+
+            for (BridgeModule module : modules) {
+                if (type.isInstance(module)) {
+                    moduleCache.put(type, module);
+                    return type.cast(module);
+                }
+            }
+
+            return null;
+        }
+
+        private boolean contains(BridgeModule module) {
+
+            for (BridgeModule storedModule : modules) {
+                if (storedModule.equals(module)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        private ModuleSnapshot with(BridgeModule module) {
+
+            BridgeModule[] newModules = Arrays.copyOf(modules, modules.length + 1);
+            newModules[modules.length] = module;
+            return new ModuleSnapshot(newModules);
+        }
+
+        private ModuleSnapshot without(BridgeModule module) {
+
+            List<BridgeModule> newModules = new ArrayList<>(Arrays.asList(modules));
+            newModules.remove(module);
+            return new ModuleSnapshot(newModules.toArray(new BridgeModule[newModules.size()]));
+        }
+
+    }
+
 }
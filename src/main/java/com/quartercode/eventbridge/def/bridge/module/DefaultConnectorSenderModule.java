@@ -18,6 +18,8 @@
 
 package com.quartercode.eventbridge.def.bridge.module;
 
+import java.util.Collection;
+import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.quartercode.eventbridge.basic.AbstractBridgeModule;
@@ -41,8 +43,8 @@ public class DefaultConnectorSenderModule extends AbstractBridgeModule implement
 
     private static final Logger                             LOGGER                       = LoggerFactory.getLogger(DefaultConnectorSenderModule.class);
 
-    private final Channel<GlobalConnectorSendInterceptor>   globalChannel                = new DefaultChannel<>(GlobalConnectorSendInterceptor.class);
-    private final Channel<SpecificConnectorSendInterceptor> specificChannel              = new DefaultChannel<>(SpecificConnectorSendInterceptor.class);
+    private final Channel<GlobalConnectorSendInterceptor>   globalChannel                = new DefaultChannel<>(GlobalConnectorSendInterceptor.class, new EmptyGlobalConnectorSendInterceptor());
+    private final Channel<SpecificConnectorSendInterceptor> specificChannel              = new DefaultChannel<>(SpecificConnectorSendInterceptor.class, new EmptySpecificConnectorSendInterceptor());
 
     private final SendChannelDivertInterceptor              sendChannelDivertInterceptor = new SendChannelDivertInterceptor();
 
@@ -86,20 +88,36 @@ public class DefaultConnectorSenderModule extends AbstractBridgeModule implement
     @Override
     public void send(Event event) {
 
-        ChannelInvocation<GlobalConnectorSendInterceptor> invocation = globalChannel.invoke();
+        ChannelInvocation<GlobalConnectorSendInterceptor> invocation = globalChannel.invoke(event.getClass());
         invocation.next().send(invocation, event);
     }
 
-    private class SendChannelDivertInterceptor implements SendInterceptor {
+    @Override
+    public void send(Collection<? extends Event> events) {
+
+        for (Event event : events) {
+            send(event);
+        }
+    }
+
+    private class SendChannelDivertInterceptor implements SendInterceptor, EventBatch.Target {
 
         @Override
         public void send(ChannelInvocation<SendInterceptor> invocation, Event event) {
 
-            DefaultConnectorSenderModule.this.send(event);
+            if (!EventBatch.defer(invocation, event, null, this)) {
+                DefaultConnectorSenderModule.this.send(event);
+            }
 
             invocation.next().send(invocation, event);
         }
 
+        @Override
+        public void deliver(List<Event> events, BridgeConnector source) {
+
+            DefaultConnectorSenderModule.this.send(events);
+        }
+
     }
 
     private class LastGlobalConnectorSendInterceptor implements GlobalConnectorSendInterceptor {
@@ -116,7 +134,7 @@ public class DefaultConnectorSenderModule extends AbstractBridgeModule implement
 
         private void invokeSpecificConnectorSendChannel(Event event, BridgeConnector connector) {
 
-            ChannelInvocation<SpecificConnectorSendInterceptor> invocation = specificChannel.invoke();
+            ChannelInvocation<SpecificConnectorSendInterceptor> invocation = specificChannel.invoke(event.getClass());
             invocation.next().send(invocation, event, connector);
         }
 
@@ -138,4 +156,22 @@ public class DefaultConnectorSenderModule extends AbstractBridgeModule implement
 
     }
 
+    private static class EmptyGlobalConnectorSendInterceptor implements GlobalConnectorSendInterceptor {
+
+        @Override
+        public void send(ChannelInvocation<GlobalConnectorSendInterceptor> invocation, Event event) {
+
+        }
+
+    }
+
+    private static class EmptySpecificConnectorSendInterceptor implements SpecificConnectorSendInterceptor {
+
+        @Override
+        public void send(ChannelInvocation<SpecificConnectorSendInterceptor> invocation, Event event, BridgeConnector connector) {
+
+        }
+
+    }
+
 }
@@ -18,6 +18,7 @@
 
 package com.quartercode.eventbridge.def.bridge.module;
 
+import java.util.Collection;
 import com.quartercode.eventbridge.basic.AbstractBridgeModule;
 import com.quartercode.eventbridge.bridge.BridgeConnector;
 import com.quartercode.eventbridge.bridge.Event;
@@ -33,7 +34,7 @@ import com.quartercode.eventbridge.def.channel.DefaultChannel;
  */
 public class DefaultHandlerModule extends AbstractBridgeModule implements HandlerModule {
 
-    private final Channel<HandleInterceptor> channel = new DefaultChannel<>(HandleInterceptor.class);
+    private final Channel<HandleInterceptor> channel = new DefaultChannel<>(HandleInterceptor.class, new EmptyHandleInterceptor());
 
     /**
      * Creates a new default handler module.
@@ -51,8 +52,35 @@ public class DefaultHandlerModule extends AbstractBridgeModule implements Handle
     @Override
     public void handle(Event event, BridgeConnector source) {
 
-        ChannelInvocation<HandleInterceptor> invocation = channel.invoke();
+        ChannelInvocation<HandleInterceptor> invocation = channel.invoke(event.getClass());
         invocation.next().handle(invocation, event, source);
     }
 
+    @Override
+    public void handle(Collection<? extends Event> events, BridgeConnector source) {
+
+        // The divert interceptors defer the events, so that each module they divert to receives the whole batch at once
+        EventBatch batch = EventBatch.begin(source);
+        try {
+            for (Event event : events) {
+                ChannelInvocation<HandleInterceptor> invocation = channel.invoke(event.getClass());
+                batch.setCurrentInvocation(invocation);
+                invocation.next().handle(invocation, event, source);
+            }
+        } finally {
+            batch.end();
+        }
+
+        batch.deliver();
+    }
+
+    private static class EmptyHandleInterceptor implements HandleInterceptor {
+
+        @Override
+        public void handle(ChannelInvocation<HandleInterceptor> invocation, Event event, BridgeConnector source) {
+
+        }
+
+    }
+
 }
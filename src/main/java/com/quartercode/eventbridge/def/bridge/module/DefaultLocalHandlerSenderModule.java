@@ -18,8 +18,11 @@
 
 package com.quartercode.eventbridge.def.bridge.module;
 
+import java.util.Collection;
+import java.util.List;
 import com.quartercode.eventbridge.basic.AbstractBridgeModule;
 import com.quartercode.eventbridge.bridge.Bridge;
+import com.quartercode.eventbridge.bridge.BridgeConnector;
 import com.quartercode.eventbridge.bridge.Event;
 import com.quartercode.eventbridge.bridge.module.LocalHandlerSenderModule;
 import com.quartercode.eventbridge.bridge.module.SenderModule;
@@ -35,7 +38,7 @@ import com.quartercode.eventbridge.def.channel.DefaultChannel;
  */
 public class DefaultLocalHandlerSenderModule extends AbstractBridgeModule implements LocalHandlerSenderModule {
 
-    private final Channel<LocalHandlerSendInterceptor> channel                      = new DefaultChannel<>(LocalHandlerSendInterceptor.class);
+    private final Channel<LocalHandlerSendInterceptor> channel                      = new DefaultChannel<>(LocalHandlerSendInterceptor.class, new EmptyLocalHandlerSendInterceptor());
 
     private final SendChannelDivertInterceptor         sendChannelDivertInterceptor = new SendChannelDivertInterceptor();
 
@@ -72,32 +75,75 @@ public class DefaultLocalHandlerSenderModule extends AbstractBridgeModule implem
     @Override
     public void send(Event event) {
 
-        ChannelInvocation<LocalHandlerSendInterceptor> invocation = channel.invoke();
+        ChannelInvocation<LocalHandlerSendInterceptor> invocation = channel.invoke(event.getClass());
         invocation.next().send(invocation, event);
     }
 
-    private class SendChannelDivertInterceptor implements SendInterceptor {
+    @Override
+    public void send(Collection<? extends Event> events) {
+
+        // The last interceptor defers the events, so that the bridge handles the whole batch at once
+        EventBatch batch = EventBatch.begin(null);
+        try {
+            for (Event event : events) {
+                ChannelInvocation<LocalHandlerSendInterceptor> invocation = channel.invoke(event.getClass());
+                batch.setCurrentInvocation(invocation);
+                invocation.next().send(invocation, event);
+            }
+        } finally {
+            batch.end();
+        }
+
+        batch.deliver();
+    }
+
+    private class SendChannelDivertInterceptor implements SendInterceptor, EventBatch.Target {
 
         @Override
         public void send(ChannelInvocation<SendInterceptor> invocation, Event event) {
 
-            DefaultLocalHandlerSenderModule.this.send(event);
+            if (!EventBatch.defer(invocation, event, null, this)) {
+                DefaultLocalHandlerSenderModule.this.send(event);
+            }
 
             invocation.next().send(invocation, event);
         }
 
+        @Override
+        public void deliver(List<Event> events, BridgeConnector source) {
+
+            DefaultLocalHandlerSenderModule.this.send(events);
+        }
+
     }
 
-    private class LastLocalHandlerSendInterceptor implements LocalHandlerSendInterceptor {
+    private class LastLocalHandlerSendInterceptor implements LocalHandlerSendInterceptor, EventBatch.Target {
 
         @Override
         public void send(ChannelInvocation<LocalHandlerSendInterceptor> invocation, Event event) {
 
-            getBridge().handle(event, null);
+            if (!EventBatch.defer(invocation, event, null, this)) {
+                getBridge().handle(event, null);
+            }
 
             invocation.next().send(invocation, event);
         }
 
+        @Override
+        public void deliver(List<Event> events, BridgeConnector source) {
+
+            getBridge().handle(events, null);
+        }
+
+    }
+
+    private static class EmptyLocalHandlerSendInterceptor implements LocalHandlerSendInterceptor {
+
+        @Override
+        public void send(ChannelInvocation<LocalHandlerSendInterceptor> invocation, Event event) {
+
+        }
+
     }
 
 }
@@ -19,11 +19,15 @@
 package com.quartercode.eventbridge.def.bridge.module;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import org.apache.commons.lang3.Validate;
 import com.quartercode.eventbridge.basic.AbstractBridgeModule;
-import com.quartercode.eventbridge.basic.EventUtils;
 import com.quartercode.eventbridge.bridge.Bridge;
 import com.quartercode.eventbridge.bridge.BridgeConnector;
 import com.quartercode.eventbridge.bridge.Event;
@@ -34,6 +38,8 @@ import com.quartercode.eventbridge.bridge.module.LowLevelHandlerModule;
 import com.quartercode.eventbridge.channel.Channel;
 import com.quartercode.eventbridge.channel.ChannelInvocation;
 import com.quartercode.eventbridge.def.channel.DefaultChannel;
+import com.quartercode.eventbridge.extra.predicate.PredicateNetwork;
+import com.quartercode.eventbridge.extra.predicate.TypePredicate;
 
 /**
  * The default default implementation of the {@link DefaultLowLevelHandlerModule} interface.
@@ -42,14 +48,19 @@ import com.quartercode.eventbridge.def.channel.DefaultChannel;
  */
 public class DefaultLowLevelHandlerModule extends AbstractBridgeModule implements LowLevelHandlerModule {
 
-    private final Channel<GlobalLowLevelHandleInterceptor>   globalChannel                  = new DefaultChannel<>(GlobalLowLevelHandleInterceptor.class);
-    private final Channel<SpecificLowLevelHandleInterceptor> specificChannel                = new DefaultChannel<>(SpecificLowLevelHandleInterceptor.class);
+    private static final int                                 DEFAULT_FAN_OUT_THRESHOLD      = 64;
+    private static final int                                 FAN_OUT_BATCH_SIZE             = 4;
+
+    private final Channel<GlobalLowLevelHandleInterceptor>   globalChannel                  = new DefaultChannel<>(GlobalLowLevelHandleInterceptor.class, new EmptyGlobalLowLevelHandleInterceptor());
+    private final Channel<SpecificLowLevelHandleInterceptor> specificChannel                = new DefaultChannel<>(SpecificLowLevelHandleInterceptor.class, new EmptySpecificLowLevelHandleInterceptor());
 
     private final HandleChannelDivertInterceptor             handleChannelDivertInterceptor = new HandleChannelDivertInterceptor();
 
-    private final List<LowLevelHandler>                      handlers                       = new CopyOnWriteArrayList<>();
+    private final PredicateNetwork<LowLevelHandler>          handlerNetwork                 = new PredicateNetwork<>();
     private final List<ModifyLowLevelHandlerListListener>    modifyHandlerListListeners     = new ArrayList<>();
-    private List<LowLevelHandler>                            handlersUnmodifiableCache;
+
+    private volatile ForkJoinPool                            fanOutPool;
+    private volatile int                                     fanOutThreshold                = DEFAULT_FAN_OUT_THRESHOLD;
 
     /**
      * Creates a new default low-level handler module.
@@ -58,6 +69,9 @@ public class DefaultLowLevelHandlerModule extends AbstractBridgeModule implement
 
         globalChannel.addInterceptor(new LastGlobalLowLevelHandleInterceptor(), 0);
         specificChannel.addInterceptor(new LastSpecificLowLevelHandleInterceptor(), 0);
+
+        // The dispatch cache counters are exposed by this module
+        handlerNetwork.setClassCacheCountersEnabled(true);
     }
 
     @Override
@@ -79,18 +93,13 @@ public class DefaultLowLevelHandlerModule extends AbstractBridgeModule implement
     @Override
     public List<LowLevelHandler> getHandlers() {
 
-        if (handlersUnmodifiableCache == null) {
-            handlersUnmodifiableCache = Collections.unmodifiableList(handlers);
-        }
-
-        return handlersUnmodifiableCache;
+        return handlerNetwork.getValues();
     }
 
     @Override
     public void addHandler(LowLevelHandler handler) {
 
-        handlers.add(handler);
-        handlersUnmodifiableCache = null;
+        handlerNetwork.add(handler, handler.getPredicate());
 
         for (ModifyLowLevelHandlerListListener listener : modifyHandlerListListeners) {
             listener.onAddHandler(handler, this);
@@ -100,13 +109,54 @@ public class DefaultLowLevelHandlerModule extends AbstractBridgeModule implement
     @Override
     public void removeHandler(LowLevelHandler handler) {
 
-        if (handlers.contains(handler)) {
+        if (handlerNetwork.contains(handler)) {
             for (ModifyLowLevelHandlerListListener listener : modifyHandlerListListeners) {
                 listener.onRemoveHandler(handler, this);
             }
 
-            handlers.remove(handler);
-            handlersUnmodifiableCache = null;
+            handlerNetwork.remove(handler);
+        }
+    }
+
+    @Override
+    public void addHandlers(Collection<? extends LowLevelHandler> handlers) {
+
+        if (handlers.isEmpty()) {
+            return;
+        }
+
+        List<LowLevelHandler> addedHandlers = Collections.unmodifiableList(new ArrayList<>(handlers));
+        for (LowLevelHandler handler : addedHandlers) {
+            handlerNetwork.add(handler, handler.getPredicate());
+        }
+
+        for (ModifyLowLevelHandlerListListener listener : modifyHandlerListListeners) {
+            listener.onAddHandlers(addedHandlers, this);
+        }
+    }
+
+    @Override
+    public void removeHandlers(Collection<? extends LowLevelHandler> handlers) {
+
+        // Each stored handler is only removed once, even if it is contained multiple times in the given collection
+        Set<LowLevelHandler> removedHandlerSet = new LinkedHashSet<>();
+        for (LowLevelHandler handler : handlers) {
+            if (handlerNetwork.contains(handler)) {
+                removedHandlerSet.add(handler);
+            }
+        }
+
+        if (removedHandlerSet.isEmpty()) {
+            return;
+        }
+
+        List<LowLevelHandler> removedHandlers = Collections.unmodifiableList(new ArrayList<>(removedHandlerSet));
+        for (ModifyLowLevelHandlerListListener listener : modifyHandlerListListeners) {
+            listener.onRemoveHandlers(removedHandlers, this);
+        }
+
+        for (LowLevelHandler handler : removedHandlers) {
+            handlerNetwork.remove(handler);
         }
     }
 
@@ -122,6 +172,106 @@ public class DefaultLowLevelHandlerModule extends AbstractBridgeModule implement
         modifyHandlerListListeners.remove(listener);
     }
 
+    /**
+     * Returns whether the dispatch cache is enabled.
+     * See {@link #setDispatchCacheEnabled(boolean)} for more details.
+     * 
+     * @return Whether the dispatch cache is used.
+     */
+    public boolean isDispatchCacheEnabled() {
+
+        return handlerNetwork.isClassCacheEnabled();
+    }
+
+    /**
+     * Enables or disables the dispatch cache, which maps {@link Event} classes to the {@link LowLevelHandler}s that match them.
+     * Only the results of predicates that solely depend on the event class (like {@link TypePredicate}s) are cached.
+     * All other predicates are still tested for every event.
+     * The cache is invalidated whenever a handler is added or removed.
+     * It is disabled by default.
+     * 
+     * @param dispatchCacheEnabled Whether the dispatch cache should be used.
+     */
+    public void setDispatchCacheEnabled(boolean dispatchCacheEnabled) {
+
+        handlerNetwork.setClassCacheEnabled(dispatchCacheEnabled);
+    }
+
+    /**
+     * Returns how many handled {@link Event}s were dispatched using an existing dispatch cache entry.
+     * 
+     * @return The amount of dispatch cache hits.
+     */
+    public long getDispatchCacheHits() {
+
+        return handlerNetwork.getClassCacheHits();
+    }
+
+    /**
+     * Returns how many handled {@link Event}s required a new dispatch cache entry to be computed.
+     * Events which are handled while the cache is disabled are not counted.
+     * 
+     * @return The amount of dispatch cache misses.
+     */
+    public long getDispatchCacheMisses() {
+
+        return handlerNetwork.getClassCacheMisses();
+    }
+
+    /**
+     * Returns the {@link ForkJoinPool} which is used for invoking a lot of matching {@link LowLevelHandler}s in parallel.
+     * See {@link #setFanOutPool(ForkJoinPool)} for more details.
+     * 
+     * @return The pool for parallel handler invocation, or {@code null} if parallel fan-out is disabled.
+     */
+    public ForkJoinPool getFanOutPool() {
+
+        return fanOutPool;
+    }
+
+    /**
+     * Enables parallel fan-out by setting the {@link ForkJoinPool} which invokes the matching {@link LowLevelHandler}s of an {@link Event} in parallel.
+     * The pool is only used if at least {@link #getFanOutThreshold()} handlers match the event.
+     * The handling thread still waits until all handlers have been invoked.
+     * It is disabled by default.<br>
+     * <br>
+     * Note that parallel fan-out doesn't retain the order in which the handlers are invoked.
+     * Moreover, all handlers and {@link SpecificLowLevelHandleInterceptor}s must be thread-safe.
+     * If a handler throws an exception, some other handlers might be invoked anyway.
+     * 
+     * @param fanOutPool The pool for parallel handler invocation, or {@code null} to disable parallel fan-out.
+     */
+    public void setFanOutPool(ForkJoinPool fanOutPool) {
+
+        this.fanOutPool = fanOutPool;
+    }
+
+    /**
+     * Returns the amount of {@link LowLevelHandler}s which must at least match an {@link Event} in order to use parallel fan-out.
+     * The default threshold is 64.
+     * 
+     * @return The minimum amount of matching handlers for parallel fan-out.
+     * @see #setFanOutPool(ForkJoinPool)
+     */
+    public int getFanOutThreshold() {
+
+        return fanOutThreshold;
+    }
+
+    /**
+     * Sets the amount of {@link LowLevelHandler}s which must at least match an {@link Event} in order to use parallel fan-out.
+     * 
+     * @param fanOutThreshold The minimum amount of matching handlers for parallel fan-out.
+     *        It must be at least 2.
+     * @see #setFanOutPool(ForkJoinPool)
+     */
+    public void setFanOutThreshold(int fanOutThreshold) {
+
+        Validate.isTrue(fanOutThreshold >= 2, "The fan-out threshold must be at least 2 (is %d)", fanOutThreshold);
+
+        this.fanOutThreshold = fanOutThreshold;
+    }
+
     @Override
     public Channel<GlobalLowLevelHandleInterceptor> getGlobalChannel() {
 
@@ -137,40 +287,122 @@ public class DefaultLowLevelHandlerModule extends AbstractBridgeModule implement
     @Override
     public void handle(Event event, BridgeConnector source) {
 
-        ChannelInvocation<GlobalLowLevelHandleInterceptor> invocation = globalChannel.invoke();
+        ChannelInvocation<GlobalLowLevelHandleInterceptor> invocation = globalChannel.invoke(event.getClass());
         invocation.next().handle(invocation, event, source);
     }
 
-    private class HandleChannelDivertInterceptor implements HandleInterceptor {
+    @Override
+    public void handle(Collection<? extends Event> events, BridgeConnector source) {
+
+        // The last interceptor defers the events, so that the matching handlers are looked up for the whole batch at once
+        EventBatch batch = EventBatch.begin(source);
+        try {
+            for (Event event : events) {
+                ChannelInvocation<GlobalLowLevelHandleInterceptor> invocation = globalChannel.invoke(event.getClass());
+                batch.setCurrentInvocation(invocation);
+                invocation.next().handle(invocation, event, source);
+            }
+        } finally {
+            batch.end();
+        }
+
+        batch.deliver();
+    }
+
+    private class HandleChannelDivertInterceptor implements HandleInterceptor, EventBatch.Target {
 
         @Override
         public void handle(ChannelInvocation<HandleInterceptor> invocation, Event event, BridgeConnector source) {
 
-            DefaultLowLevelHandlerModule.this.handle(event, source);
+            if (!EventBatch.defer(invocation, event, source, this)) {
+                DefaultLowLevelHandlerModule.this.handle(event, source);
+            }
 
             invocation.next().handle(invocation, event, source);
         }
 
+        @Override
+        public void deliver(List<Event> events, BridgeConnector source) {
+
+            DefaultLowLevelHandlerModule.this.handle(events, source);
+        }
+
     }
 
-    private class LastGlobalLowLevelHandleInterceptor implements GlobalLowLevelHandleInterceptor {
+    private class LastGlobalLowLevelHandleInterceptor implements GlobalLowLevelHandleInterceptor, EventBatch.Target {
 
         @Override
         public void handle(ChannelInvocation<GlobalLowLevelHandleInterceptor> invocation, Event event, BridgeConnector source) {
 
-            for (LowLevelHandler handler : handlers) {
-                if (EventUtils.tryTest(handler.getPredicate(), event)) {
-                    invokeHandlerHandleChannel(event, source, handler);
-                }
+            if (!EventBatch.defer(invocation, event, source, this)) {
+                // The network tests each distinct predicate only once
+                invokeHandlers(event, source, handlerNetwork.getMatches(event));
             }
 
             invocation.next().handle(invocation, event, source);
         }
 
-        private void invokeHandlerHandleChannel(Event event, BridgeConnector source, LowLevelHandler handler) {
+        @Override
+        public void deliver(List<Event> events, BridgeConnector source) {
 
-            ChannelInvocation<SpecificLowLevelHandleInterceptor> invocation = specificChannel.invoke();
-            invocation.next().handle(invocation, event, source, handler);
+            // Successive events of the same class share their lookup
+            List<List<LowLevelHandler>> matchingHandlers = handlerNetwork.getMatches(events);
+
+            for (int index = 0; index < events.size(); index++) {
+                invokeHandlers(events.get(index), source, matchingHandlers.get(index));
+            }
+        }
+
+    }
+
+    private void invokeHandlers(Event event, BridgeConnector source, List<LowLevelHandler> matchingHandlers) {
+
+        ForkJoinPool pool = fanOutPool;
+        if (pool != null && matchingHandlers.size() >= fanOutThreshold) {
+            // Blocks until all handlers have been invoked
+            pool.invoke(new FanOutTask(matchingHandlers, 0, matchingHandlers.size(), event, source));
+        } else {
+            for (LowLevelHandler handler : matchingHandlers) {
+                invokeHandlerHandleChannel(event, source, handler);
+            }
+        }
+    }
+
+    private void invokeHandlerHandleChannel(Event event, BridgeConnector source, LowLevelHandler handler) {
+
+        ChannelInvocation<SpecificLowLevelHandleInterceptor> invocation = specificChannel.invoke(event.getClass());
+        invocation.next().handle(invocation, event, source, handler);
+    }
+
+    @SuppressWarnings ("serial")
+    private class FanOutTask extends RecursiveAction {
+
+        private final List<LowLevelHandler> handlers;
+        private final int                   from;
+        private final int                   to;
+        private final Event                 event;
+        private final BridgeConnector       source;
+
+        private FanOutTask(List<LowLevelHandler> handlers, int from, int to, Event event, BridgeConnector source) {
+
+            this.handlers = handlers;
+            this.from = from;
+            this.to = to;
+            this.event = event;
+            this.source = source;
+        }
+
+        @Override
+        protected void compute() {
+
+            if (to - from <= FAN_OUT_BATCH_SIZE) {
+                for (int index = from; index < to; index++) {
+                    invokeHandlerHandleChannel(event, source, handlers.get(index));
+                }
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new FanOutTask(handlers, from, middle, event, source), new FanOutTask(handlers, middle, to, event, source));
+            }
         }
 
     }
@@ -187,4 +419,22 @@ public class DefaultLowLevelHandlerModule extends AbstractBridgeModule implement
 
     }
 
+    private static class EmptyGlobalLowLevelHandleInterceptor implements GlobalLowLevelHandleInterceptor {
+
+        @Override
+        public void handle(ChannelInvocation<GlobalLowLevelHandleInterceptor> invocation, Event event, BridgeConnector source) {
+
+        }
+
+    }
+
+    private static class EmptySpecificLowLevelHandleInterceptor implements SpecificLowLevelHandleInterceptor {
+
+        @Override
+        public void handle(ChannelInvocation<SpecificLowLevelHandleInterceptor> invocation, Event event, BridgeConnector source, LowLevelHandler handler) {
+
+        }
+
+    }
+
 }
@@ -18,6 +18,7 @@
 
 package com.quartercode.eventbridge.def.bridge.module;
 
+import java.util.Collection;
 import com.quartercode.eventbridge.basic.AbstractBridgeModule;
 import com.quartercode.eventbridge.bridge.Event;
 import com.quartercode.eventbridge.bridge.module.SenderModule;
@@ -32,7 +33,7 @@ import com.quartercode.eventbridge.def.channel.DefaultChannel;
  */
 public class DefaultSenderModule extends AbstractBridgeModule implements SenderModule {
 
-    private final Channel<SendInterceptor> channel = new DefaultChannel<>(SendInterceptor.class);
+    private final Channel<SendInterceptor> channel = new DefaultChannel<>(SendInterceptor.class, new EmptySendInterceptor());
 
     /**
      * Creates a new default sender module.
@@ -50,8 +51,35 @@ public class DefaultSenderModule extends AbstractBridgeModule implements SenderM
     @Override
     public void send(Event event) {
 
-        ChannelInvocation<SendInterceptor> invocation = channel.invoke();
+        ChannelInvocation<SendInterceptor> invocation = channel.invoke(event.getClass());
         invocation.next().send(invocation, event);
     }
 
+    @Override
+    public void send(Collection<? extends Event> events) {
+
+        // The divert interceptors defer the events, so that each module they divert to receives the whole batch at once
+        EventBatch batch = EventBatch.begin(null);
+        try {
+            for (Event event : events) {
+                ChannelInvocation<SendInterceptor> invocation = channel.invoke(event.getClass());
+                batch.setCurrentInvocation(invocation);
+                invocation.next().send(invocation, event);
+            }
+        } finally {
+            batch.end();
+        }
+
+        batch.deliver();
+    }
+
+    private static class EmptySendInterceptor implements SendInterceptor {
+
+        @Override
+        public void send(ChannelInvocation<SendInterceptor> invocation, Event event) {
+
+        }
+
+    }
+
 }
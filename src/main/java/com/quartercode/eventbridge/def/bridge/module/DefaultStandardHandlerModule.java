@@ -18,11 +18,28 @@
 
 package com.quartercode.eventbridge.def.bridge.module;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
+import org.apache.commons.lang3.Validate;
 import com.quartercode.eventbridge.basic.AbstractBridgeModule;
 import com.quartercode.eventbridge.basic.EventUtils;
 import com.quartercode.eventbridge.bridge.BridgeConnector;
@@ -30,12 +47,15 @@ import com.quartercode.eventbridge.bridge.Event;
 import com.quartercode.eventbridge.bridge.EventPredicate;
 import com.quartercode.eventbridge.bridge.module.EventHandler;
 import com.quartercode.eventbridge.bridge.module.HandlerModule;
+import com.quartercode.eventbridge.bridge.module.Handles;
 import com.quartercode.eventbridge.bridge.module.LowLevelHandler;
 import com.quartercode.eventbridge.bridge.module.LowLevelHandlerModule;
+import com.quartercode.eventbridge.bridge.module.LowLevelHandlerModule.ModifyLowLevelHandlerListListener;
 import com.quartercode.eventbridge.bridge.module.StandardHandlerModule;
 import com.quartercode.eventbridge.channel.Channel;
 import com.quartercode.eventbridge.channel.ChannelInvocation;
 import com.quartercode.eventbridge.def.channel.DefaultChannel;
+import com.quartercode.eventbridge.extra.predicate.TypePredicate;
 
 /**
  * The default default implementation of the {@link DefaultStandardHandlerModule} interface.
@@ -44,26 +64,49 @@ import com.quartercode.eventbridge.def.channel.DefaultChannel;
  */
 public class DefaultStandardHandlerModule extends AbstractBridgeModule implements StandardHandlerModule {
 
-    private final Channel<StandardHandleInterceptor>      channel                    = new DefaultChannel<>(StandardHandleInterceptor.class);
+    // The annotated handler methods of each class are only looked up and unreflected once
+    private static final ClassValue<List<AnnotatedHandlerMethod>> ANNOTATED_HANDLER_METHODS = new ClassValue<List<AnnotatedHandlerMethod>>() {
 
-    private final Map<EventHandler<?>, EventPredicate<?>> handlers                   = new ConcurrentHashMap<>();
-    private final Map<EventHandler<?>, LowLevelHandler>   lowLevelHandlers           = new ConcurrentHashMap<>();
-    private final List<ModifyStandardHandlerListListener> modifyHandlerListListeners = new ArrayList<>();
-    private Map<EventHandler<?>, EventPredicate<?>>       handlersUnmodifiableCache;
+        @Override
+        protected List<AnnotatedHandlerMethod> computeValue(Class<?> type) {
+
+            return findAnnotatedHandlerMethods(type);
+        }
+
+    };
+
+    private final Channel<StandardHandleInterceptor>         channel                    = new DefaultChannel<>(StandardHandleInterceptor.class, new EmptyStandardHandleInterceptor());
+    private final StandardHandleInterceptor                  lastInterceptor            = new LastStandardHandleInterceptor();
+
+    private final Map<EventHandler<?>, EventPredicate<?>>    handlers                   = new ConcurrentHashMap<>();
+    private final Map<EventHandler<?>, LowLevelHandler>      lowLevelHandlers           = new ConcurrentHashMap<>();
+    private final List<ModifyStandardHandlerListListener>    modifyHandlerListListeners = new ArrayList<>();
+    private final Map<Object, List<EventHandler<?>>>         annotatedHandlers          = Collections.synchronizedMap(new IdentityHashMap<Object, List<EventHandler<?>>>());
+    // The weak handler references don't reference their handlers strongly, so the map entries vanish as soon as the handlers are collected
+    private final Map<EventHandler<?>, WeakHandlerReference> weakHandlers               = Collections.synchronizedMap(new WeakHashMap<EventHandler<?>, WeakHandlerReference>());
+    private final ReferenceQueue<EventHandler<?>>            collectedHandlers          = new ReferenceQueue<>();
+    private Map<EventHandler<?>, EventPredicate<?>>          handlersUnmodifiableCache;
 
     /**
      * Creates a new default standard handler module.
      */
     public DefaultStandardHandlerModule() {
 
-        channel.addInterceptor(new LastStandardHandleInterceptor(), 0);
+        channel.addInterceptor(lastInterceptor, 0);
     }
 
     @Override
     public void remove() {
 
-        for (LowLevelHandler lowLevelHandler : lowLevelHandlers.values()) {
-            getBridge().getModule(LowLevelHandlerModule.class).removeHandler(lowLevelHandler);
+        List<LowLevelHandler> removedLowLevelHandlers = new ArrayList<>(lowLevelHandlers.values());
+        synchronized (weakHandlers) {
+            for (WeakHandlerReference reference : weakHandlers.values()) {
+                removedLowLevelHandlers.add(reference.lowLevelHandler);
+            }
+        }
+
+        if (!removedLowLevelHandlers.isEmpty()) {
+            getBridge().getModule(LowLevelHandlerModule.class).removeHandlers(removedLowLevelHandlers);
         }
 
         super.remove();
@@ -72,6 +115,17 @@ public class DefaultStandardHandlerModule extends AbstractBridgeModule implement
     @Override
     public Map<EventHandler<?>, EventPredicate<?>> getHandlers() {
 
+        if (!weakHandlers.isEmpty()) {
+            Map<EventHandler<?>, EventPredicate<?>> allHandlers = new HashMap<>(handlers);
+            synchronized (weakHandlers) {
+                for (Map.Entry<EventHandler<?>, WeakHandlerReference> weakHandler : weakHandlers.entrySet()) {
+                    allHandlers.put(weakHandler.getKey(), weakHandler.getValue().predicate);
+                }
+            }
+
+            return Collections.unmodifiableMap(allHandlers);
+        }
+
         if (handlersUnmodifiableCache == null) {
             handlersUnmodifiableCache = Collections.unmodifiableMap(handlers);
         }
@@ -94,9 +148,36 @@ public class DefaultStandardHandlerModule extends AbstractBridgeModule implement
         }
     }
 
+    @Override
+    public void addWeakHandler(EventHandler<?> handler, EventPredicate<?> predicate) {
+
+        purgeCollectedHandlers();
+
+        WeakHandlerReference reference = new WeakHandlerReference(handler, predicate);
+        weakHandlers.put(handler, reference);
+        getBridge().getModule(LowLevelHandlerModule.class).addHandler(reference.lowLevelHandler);
+
+        for (ModifyStandardHandlerListListener listener : modifyHandlerListListeners) {
+            listener.onAddHandler(handler, predicate, this);
+        }
+    }
+
     @Override
     public void removeHandler(EventHandler<?> handler) {
 
+        purgeCollectedHandlers();
+
+        WeakHandlerReference reference = weakHandlers.remove(handler);
+        if (reference != null) {
+            for (ModifyStandardHandlerListListener listener : modifyHandlerListListeners) {
+                listener.onRemoveHandler(handler, reference.predicate, this);
+            }
+
+            // Cleared references are not enqueued anymore, so the handler isn't purged a second time
+            reference.clear();
+            getBridge().getModule(LowLevelHandlerModule.class).removeHandler(reference.lowLevelHandler);
+        }
+
         if (handlers.containsKey(handler)) {
             if (!modifyHandlerListListeners.isEmpty()) {
                 EventPredicate<?> predicate = handlers.get(handler);
@@ -114,6 +195,139 @@ public class DefaultStandardHandlerModule extends AbstractBridgeModule implement
         }
     }
 
+    @Override
+    public void addHandlers(Map<? extends EventHandler<?>, ? extends EventPredicate<?>> handlers) {
+
+        List<LowLevelHandler> newLowLevelHandlers = new ArrayList<>(handlers.size());
+        for (Map.Entry<? extends EventHandler<?>, ? extends EventPredicate<?>> handler : handlers.entrySet()) {
+            this.handlers.put(handler.getKey(), handler.getValue());
+
+            LowLevelHandler lowLevelHandler = new LowLevelHandlerAdapter(handler.getKey(), handler.getValue());
+            lowLevelHandlers.put(handler.getKey(), lowLevelHandler);
+            newLowLevelHandlers.add(lowLevelHandler);
+        }
+        handlersUnmodifiableCache = null;
+
+        if (!newLowLevelHandlers.isEmpty()) {
+            getBridge().getModule(LowLevelHandlerModule.class).addHandlers(newLowLevelHandlers);
+        }
+
+        for (Map.Entry<? extends EventHandler<?>, ? extends EventPredicate<?>> handler : handlers.entrySet()) {
+            for (ModifyStandardHandlerListListener listener : modifyHandlerListListeners) {
+                listener.onAddHandler(handler.getKey(), handler.getValue(), this);
+            }
+        }
+    }
+
+    @Override
+    public void removeHandlers(Collection<? extends EventHandler<?>> handlers) {
+
+        purgeCollectedHandlers();
+
+        List<LowLevelHandler> removedLowLevelHandlers = new ArrayList<>(handlers.size());
+        for (EventHandler<?> handler : handlers) {
+            WeakHandlerReference reference = weakHandlers.remove(handler);
+            if (reference != null) {
+                for (ModifyStandardHandlerListListener listener : modifyHandlerListListeners) {
+                    listener.onRemoveHandler(handler, reference.predicate, this);
+                }
+
+                reference.clear();
+                removedLowLevelHandlers.add(reference.lowLevelHandler);
+            }
+
+            // The handler might be contained multiple times in the given collection
+            LowLevelHandler lowLevelHandler = lowLevelHandlers.remove(handler);
+
+            if (lowLevelHandler != null) {
+                EventPredicate<?> predicate = this.handlers.get(handler);
+                for (ModifyStandardHandlerListListener listener : modifyHandlerListListeners) {
+                    listener.onRemoveHandler(handler, predicate, this);
+                }
+
+                removedLowLevelHandlers.add(lowLevelHandler);
+            }
+        }
+
+        if (!removedLowLevelHandlers.isEmpty()) {
+            getBridge().getModule(LowLevelHandlerModule.class).removeHandlers(removedLowLevelHandlers);
+        }
+
+        for (EventHandler<?> handler : handlers) {
+            this.handlers.remove(handler);
+        }
+        handlersUnmodifiableCache = null;
+    }
+
+    @Override
+    public List<EventHandler<?>> addAnnotatedHandlers(Object object) {
+
+        Validate.notNull(object, "Cannot scan null object for annotated handlers");
+
+        Map<EventHandler<?>, EventPredicate<?>> newHandlers = new LinkedHashMap<>();
+        for (AnnotatedHandlerMethod method : ANNOTATED_HANDLER_METHODS.get(object.getClass())) {
+            newHandlers.put(method.createHandler(object), new TypePredicate<>(method.eventType));
+        }
+        addHandlers(newHandlers);
+
+        List<EventHandler<?>> objectHandlers = new ArrayList<>(newHandlers.keySet());
+
+        synchronized (annotatedHandlers) {
+            List<EventHandler<?>> registeredHandlers = annotatedHandlers.get(object);
+            if (registeredHandlers == null) {
+                annotatedHandlers.put(object, new ArrayList<>(objectHandlers));
+            } else {
+                registeredHandlers.addAll(objectHandlers);
+            }
+        }
+
+        return Collections.unmodifiableList(objectHandlers);
+    }
+
+    @Override
+    public void removeAnnotatedHandlers(Object object) {
+
+        List<EventHandler<?>> objectHandlers = annotatedHandlers.remove(object);
+        if (objectHandlers != null) {
+            removeHandlers(objectHandlers);
+        }
+    }
+
+    /**
+     * Removes the {@link LowLevelHandler}s of all weakly referenced {@link EventHandler}s which have been garbage-collected from the {@link LowLevelHandlerModule}.
+     * Since the low-level handlers are removed as one batch, the {@link ModifyLowLevelHandlerListListener}s are only notified once.
+     * Note that the {@link ModifyStandardHandlerListListener}s are not notified since the collected handlers are no longer available.<br>
+     * <br>
+     * This cleanup pass is also performed automatically whenever the handlers of this module are modified.
+     * Moreover, it is triggered as soon as an {@link Event} would be delivered to a collected handler.
+     * Therefore, it usually doesn't need to be called manually.
+     * 
+     * @see #addWeakHandler(EventHandler, EventPredicate)
+     */
+    public void purgeCollectedHandlers() {
+
+        List<LowLevelHandler> collectedLowLevelHandlers = null;
+
+        Reference<? extends EventHandler<?>> reference;
+        while ( (reference = collectedHandlers.poll()) != null) {
+            if (collectedLowLevelHandlers == null) {
+                collectedLowLevelHandlers = new ArrayList<>();
+            }
+
+            collectedLowLevelHandlers.add( ((WeakHandlerReference) reference).lowLevelHandler);
+        }
+
+        if (collectedLowLevelHandlers != null) {
+            getBridge().getModule(LowLevelHandlerModule.class).removeHandlers(collectedLowLevelHandlers);
+        }
+    }
+
+    // Allows tests to simulate the garbage collection of a handler by clearing and enqueuing its reference
+    Reference<EventHandler<?>> getWeakHandlerReference(EventHandler<?> handler) {
+
+        return weakHandlers.get(handler);
+    }
+
     @Override
     public void addModifyHandlerListListener(ModifyStandardHandlerListListener listener) {
 
@@ -134,10 +348,103 @@ public class DefaultStandardHandlerModule extends AbstractBridgeModule implement
 
     private void handle(Event event, BridgeConnector source, EventHandler<?> handler) {
 
-        ChannelInvocation<StandardHandleInterceptor> invocation = channel.invoke();
+        // Skip the channel invocation as long as no other interceptors are interested in the event
+        if (channel.isOnlyInterceptor(lastInterceptor, event.getClass())) {
+            EventUtils.tryHandle(handler, event);
+            return;
+        }
+
+        ChannelInvocation<StandardHandleInterceptor> invocation = channel.invoke(event.getClass());
         invocation.next().handle(invocation, event, source, handler);
     }
 
+    private static List<AnnotatedHandlerMethod> findAnnotatedHandlerMethods(Class<?> type) {
+
+        List<AnnotatedHandlerMethod> methods = new ArrayList<>();
+        Set<String> visitedSignatures = new HashSet<>();
+
+        // Walk up the hierarchy; methods that are overridden by a subclass are only visited once (through the subclass)
+        for (Class<?> currentType = type; currentType != null; currentType = currentType.getSuperclass()) {
+            for (Method method : currentType.getDeclaredMethods()) {
+                if (method.isSynthetic() || method.isBridge()) {
+                    continue;
+                }
+
+                String signature = method.getName() + Arrays.toString(method.getParameterTypes());
+                if (!Modifier.isPrivate(method.getModifiers()) && !visitedSignatures.add(signature)) {
+                    continue;
+                }
+
+                if (method.isAnnotationPresent(Handles.class)) {
+                    methods.add(new AnnotatedHandlerMethod(method));
+                }
+            }
+        }
+
+        return Collections.unmodifiableList(methods);
+    }
+
+    private static class AnnotatedHandlerMethod {
+
+        private static final MethodType      INSTANCE_METHOD_TYPE = MethodType.methodType(void.class, Object.class, Event.class);
+        private static final MethodType      STATIC_METHOD_TYPE   = MethodType.methodType(void.class, Event.class);
+
+        private final Class<? extends Event> eventType;
+        private final MethodHandle           methodHandle;
+        private final boolean                staticMethod;
+
+        private AnnotatedHandlerMethod(Method method) {
+
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            Validate.isTrue(parameterTypes.length == 1 && Event.class.isAssignableFrom(parameterTypes[0]), "Handler method '%s' must take exactly one event parameter", method);
+
+            @SuppressWarnings ("unchecked")
+            Class<? extends Event> eventType = (Class<? extends Event>) parameterTypes[0];
+            this.eventType = eventType;
+            staticMethod = Modifier.isStatic(method.getModifiers());
+
+            if (!Modifier.isPublic(method.getModifiers()) || !Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+                method.setAccessible(true);
+            }
+
+            try {
+                methodHandle = MethodHandles.lookup().unreflect(method).asType(staticMethod ? STATIC_METHOD_TYPE : INSTANCE_METHOD_TYPE);
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException("Cannot access handler method '" + method + "'", e);
+            }
+        }
+
+        private EventHandler<?> createHandler(Object object) {
+
+            return new MethodHandleEventHandler(staticMethod ? methodHandle : methodHandle.bindTo(object));
+        }
+
+    }
+
+    private static class MethodHandleEventHandler implements EventHandler<Event> {
+
+        // Always has the type (Event)void
+        private final MethodHandle methodHandle;
+
+        private MethodHandleEventHandler(MethodHandle methodHandle) {
+
+            this.methodHandle = methodHandle;
+        }
+
+        @Override
+        public void handle(Event event) {
+
+            try {
+                methodHandle.invokeExact(event);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new RuntimeException("Annotated event handler method threw a checked exception", t);
+            }
+        }
+
+    }
+
     private class LowLevelHandlerAdapter implements LowLevelHandler {
 
         private final EventHandler<?>   handler;
@@ -163,6 +470,50 @@ public class DefaultStandardHandlerModule extends AbstractBridgeModule implement
 
     }
 
+    private class WeakHandlerReference extends WeakReference<EventHandler<?>> {
+
+        private final EventPredicate<?> predicate;
+        private final LowLevelHandler   lowLevelHandler = new WeakLowLevelHandlerAdapter(this);
+
+        private WeakHandlerReference(EventHandler<?> handler, EventPredicate<?> predicate) {
+
+            super(handler, collectedHandlers);
+
+            this.predicate = predicate;
+        }
+
+    }
+
+    private class WeakLowLevelHandlerAdapter implements LowLevelHandler {
+
+        private final WeakHandlerReference reference;
+
+        private WeakLowLevelHandlerAdapter(WeakHandlerReference reference) {
+
+            this.reference = reference;
+        }
+
+        @Override
+        public EventPredicate<?> getPredicate() {
+
+            return reference.predicate;
+        }
+
+        @Override
+        public void handle(Event event, BridgeConnector source) {
+
+            EventHandler<?> handler = reference.get();
+
+            if (handler != null) {
+                DefaultStandardHandlerModule.this.handle(event, source, handler);
+            } else {
+                // The handler has been collected; remove its low-level handler (and all others of collected handlers)
+                purgeCollectedHandlers();
+            }
+        }
+
+    }
+
     private static class LastStandardHandleInterceptor implements StandardHandleInterceptor {
 
         @Override
@@ -175,4 +526,13 @@ public class DefaultStandardHandlerModule extends AbstractBridgeModule implement
 
     }
 
+    private static class EmptyStandardHandleInterceptor implements StandardHandleInterceptor {
+
+        @Override
+        public void handle(ChannelInvocation<StandardHandleInterceptor> invocation, Event event, BridgeConnector source, EventHandler<?> handler) {
+
+        }
+
+    }
+
 }
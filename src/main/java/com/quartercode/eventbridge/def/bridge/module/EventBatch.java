@@ -0,0 +1,108 @@
+/*
+ * This file is part of EventBridge.
+ * Copyright (c) 2014 QuarterCode <http://www.quartercode.com/>
+ *
+ * EventBridge is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of
+ * the License, or (at your option) any later version.
+ *
+ * EventBridge is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EventBridge. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.quartercode.eventbridge.def.bridge.module;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import com.quartercode.eventbridge.bridge.BridgeConnector;
+import com.quartercode.eventbridge.bridge.Event;
+import com.quartercode.eventbridge.channel.ChannelInvocation;
+
+// Passes a batch of events from one module to the next ones with one call per module instead of one call per event.
+// The interceptors of a channel are still invoked for each event, but the interceptors which would pass an event on to another module defer it to the batch instead.
+// Once all events went through the channel, each of those targets receives all of its deferred events at once.
+// An interceptor can only defer an event while the channel invocation which is currently driven by the batch reaches it.
+// All other invocations (e.g. nested ones which are started by interceptors or handlers) pass their events on directly.
+class EventBatch {
+
+    private static final ThreadLocal<EventBatch> CURRENT  = new ThreadLocal<>();
+
+    private final EventBatch                     outer;
+    private final BridgeConnector                source;
+    private ChannelInvocation<?>                 currentInvocation;
+    // The targets receive their events in the order in which they deferred their first event
+    private final Map<Target, List<Event>>       deferred = new LinkedHashMap<>();
+
+    // Events which are handled by the batch must come from the given source; use null for sent events
+    static EventBatch begin(BridgeConnector source) {
+
+        EventBatch batch = new EventBatch(CURRENT.get(), source);
+        CURRENT.set(batch);
+        return batch;
+    }
+
+    // Returns false if the event isn't part of the current batch; the caller must pass it on directly in that case
+    static boolean defer(ChannelInvocation<?> invocation, Event event, BridgeConnector source, Target target) {
+
+        EventBatch batch = CURRENT.get();
+
+        // Events whose source was changed by an interceptor can't be delivered with the other events
+        if (batch == null || batch.currentInvocation != invocation || batch.source != source) {
+            return false;
+        }
+
+        List<Event> targetEvents = batch.deferred.get(target);
+        if (targetEvents == null) {
+            targetEvents = new ArrayList<>();
+            batch.deferred.put(target, targetEvents);
+        }
+        targetEvents.add(event);
+
+        return true;
+    }
+
+    private EventBatch(EventBatch outer, BridgeConnector source) {
+
+        this.outer = outer;
+        this.source = source;
+    }
+
+    // Must be called before the invocation for the next event of the batch is driven
+    void setCurrentInvocation(ChannelInvocation<?> currentInvocation) {
+
+        this.currentInvocation = currentInvocation;
+    }
+
+    // Must be called once all events went through the channel, even if an exception was thrown
+    void end() {
+
+        if (outer == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(outer);
+        }
+    }
+
+    // Must be called after the batch has ended; the targets may start new batches
+    void deliver() {
+
+        for (Map.Entry<Target, List<Event>> targetEvents : deferred.entrySet()) {
+            targetEvents.getKey().deliver(targetEvents.getValue(), source);
+        }
+    }
+
+    interface Target {
+
+        void deliver(List<Event> events, BridgeConnector source);
+
+    }
+
+}
@@ -18,74 +18,213 @@
 
 package com.quartercode.eventbridge.def.channel;
 
-import java.util.Comparator;
-import java.util.HashSet;
-import java.util.Map.Entry;
-import java.util.Set;
-import java.util.SortedMap;
-import java.util.TreeMap;
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import org.apache.commons.lang3.Validate;
 import com.quartercode.eventbridge.channel.Channel;
 import com.quartercode.eventbridge.channel.ChannelInvocation;
+import com.quartercode.eventbridge.channel.FilteringInterceptor;
 
 /**
- * The default implementation of the {@link Channel} interface.
+ * The default implementation of the {@link Channel} interface.<br>
+ * <br>
+ * Default channels are thread-safe.
+ * The interceptors are stored in an immutable snapshot which is replaced every time an interceptor is added or removed.
+ * Therefore, {@link #invoke()} never blocks and invocations which are already running aren't affected by modifications of the channel.
+ * Modifications are synchronized with each other.<br>
+ * <br>
+ * Filtered interceptor chains ({@link #invoke(Class)}) are cached per filter type.
+ * That cache belongs to the current snapshot and is therefore discarded every time the interceptors change.<br>
+ * <br>
+ * After all interceptors have been invoked, {@link ChannelInvocation#next()} returns the terminal interceptor of the channel, which doesn't do anything.
+ * It can be passed to the constructor as a plain implementation of the interceptor type.
+ * Otherwise, a {@link java.lang.reflect.Proxy} is used, which is shared by all channels with the same interceptor type.
+ * Note that every call of such a proxy allocates an argument array and is dispatched reflectively.
  * 
  * @param <T> The type of interceptor that can be used by the channel.
  * @see Channel
  */
 public class DefaultChannel<T> implements Channel<T> {
 
-    private Class<T>              interceptorType;
-    private SortedMap<Integer, T> interceptors;
+    private final Class<T>       interceptorType;
+    private final T              terminalInterceptor;
+    private volatile Snapshot<T> snapshot;
 
     /**
-     * Creates a new default channel.
+     * Creates a new default channel whose terminal interceptor is a shared {@link java.lang.reflect.Proxy} that doesn't do anything.
      * 
      * @param interceptorType The type of interceptor that can be used by the channel.
      */
     public DefaultChannel(Class<T> interceptorType) {
 
-        this.interceptorType = interceptorType;
+        this(interceptorType, DefaultChannelInvocation.getEmptyInterceptor(interceptorType));
+    }
 
-        interceptors = new TreeMap<>(new Comparator<Integer>() {
+    /**
+     * Creates a new default channel with the given terminal interceptor.
+     * It is returned by {@link ChannelInvocation#next()} after all interceptors have been invoked.
+     * Therefore, it shouldn't do anything and only return default values.
+     * 
+     * @param interceptorType The type of interceptor that can be used by the channel.
+     * @param terminalInterceptor The interceptor which terminates every invocation of the channel.
+     */
+    public DefaultChannel(Class<T> interceptorType, T terminalInterceptor) {
 
-            @Override
-            public int compare(Integer o1, Integer o2) {
+        Validate.notNull(terminalInterceptor, "The terminal interceptor of a channel cannot be null");
 
-                // Reverse the comparison in order to make the map ordering being large to small
-                return Integer.compare(o2, o1);
-            }
+        this.interceptorType = interceptorType;
+        this.terminalInterceptor = terminalInterceptor;
 
-        });
+        snapshot = new Snapshot<>(new int[0], newInterceptorArray(0));
     }
 
     @Override
-    public void addInterceptor(T interceptor, int priority) {
+    public synchronized void addInterceptor(T interceptor, int priority) {
 
-        Validate.isTrue(!interceptors.containsKey(priority), "Event channel already contains interceptor with priority %s", priority);
-        interceptors.put(priority, interceptor);
+        int[] priorities = snapshot.priorities;
+        T[] interceptors = snapshot.interceptors;
+
+        // The priorities are sorted from large to small
+        int index = 0;
+        while (index < priorities.length && priorities[index] > priority) {
+            index++;
+        }
+
+        Validate.isTrue(index == priorities.length || priorities[index] != priority, "Event channel already contains interceptor with priority %s", priority);
+
+        int[] newPriorities = new int[priorities.length + 1];
+        T[] newInterceptors = newInterceptorArray(interceptors.length + 1);
+        System.arraycopy(priorities, 0, newPriorities, 0, index);
+        System.arraycopy(interceptors, 0, newInterceptors, 0, index);
+        newPriorities[index] = priority;
+        newInterceptors[index] = interceptor;
+        System.arraycopy(priorities, index, newPriorities, index + 1, priorities.length - index);
+        System.arraycopy(interceptors, index, newInterceptors, index + 1, interceptors.length - index);
+
+        snapshot = new Snapshot<>(newPriorities, newInterceptors);
     }
 
     @Override
-    public void removeInterceptor(T interceptor) {
-
-        Set<Integer> removeKeys = new HashSet<>();
-        for (Entry<Integer, T> storedInterceptor : interceptors.entrySet()) {
-            if (storedInterceptor.getValue().equals(interceptor)) {
-                removeKeys.add(storedInterceptor.getKey());
+    public synchronized void removeInterceptor(T interceptor) {
+
+        int[] priorities = snapshot.priorities;
+        T[] interceptors = snapshot.interceptors;
+
+        int[] newPriorities = new int[priorities.length];
+        T[] newInterceptors = newInterceptorArray(interceptors.length);
+        int newLength = 0;
+        for (int index = 0; index < interceptors.length; index++) {
+            if (!interceptors[index].equals(interceptor)) {
+                newPriorities[newLength] = priorities[index];
+                newInterceptors[newLength] = interceptors[index];
+                newLength++;
             }
         }
 
-        for (int removeKey : removeKeys) {
-            interceptors.remove(removeKey);
+        if (newLength != interceptors.length) {
+            snapshot = new Snapshot<>(Arrays.copyOf(newPriorities, newLength), Arrays.copyOf(newInterceptors, newLength));
         }
     }
 
     @Override
     public ChannelInvocation<T> invoke() {
 
-        return new DefaultChannelInvocation<>(interceptorType, interceptors.values());
+        return new DefaultChannelInvocation<>(snapshot.interceptors, terminalInterceptor);
+    }
+
+    @Override
+    public ChannelInvocation<T> invoke(Class<?> filterType) {
+
+        return new DefaultChannelInvocation<>(snapshot.getInterceptors(filterType), terminalInterceptor);
+    }
+
+    @Override
+    public boolean isOnlyInterceptor(T interceptor, Class<?> filterType) {
+
+        T[] interceptors = snapshot.getInterceptors(filterType);
+        return interceptors.length == 1 && interceptors[0] == interceptor;
+    }
+
+    @SuppressWarnings ("unchecked")
+    private T[] newInterceptorArray(int length) {
+
+        return (T[]) Array.newInstance(interceptorType, length);
+    }
+
+    // A snapshot is never modified after it has been published, so its interceptor arrays can be passed to invocations without copying them
+    private static class Snapshot<T> {
+
+        private final int[]                        priorities;
+        private final T[]                          interceptors;
+        // Snapshots are replaced frequently, so a long-lived ClassValue isn't suitable here
+        private final ConcurrentMap<Class<?>, T[]> filteredInterceptors;
+
+        private Snapshot(int[] priorities, T[] interceptors) {
+
+            this.priorities = priorities;
+            this.interceptors = interceptors;
+
+            filteredInterceptors = containsFilteringInterceptor(interceptors) ? new ConcurrentHashMap<Class<?>, T[]>() : null;
+        }
+
+        private boolean containsFilteringInterceptor(T[] interceptors) {
+
+            for (T interceptor : interceptors) {
+                if (interceptor instanceof FilteringInterceptor) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        private T[] getInterceptors(Class<?> filterType) {
+
+            if (filterType == null || filteredInterceptors == null) {
+                return interceptors;
+            }
+
+            T[] filtered = filteredInterceptors.get(filterType);
+            if (filtered == null) {
+                // Concurrent computations yield equal arrays, so it doesn't matter which one is kept
+                filtered = filterInterceptors(filterType);
+                filteredInterceptors.put(filterType, filtered);
+            }
+
+            return filtered;
+        }
+
+        private T[] filterInterceptors(Class<?> filterType) {
+
+            T[] filtered = Arrays.copyOf(interceptors, interceptors.length);
+            int filteredLength = 0;
+            for (T interceptor : interceptors) {
+                if (isInterested(interceptor, filterType)) {
+                    filtered[filteredLength] = interceptor;
+                    filteredLength++;
+                }
+            }
+
+            return filteredLength == interceptors.length ? interceptors : Arrays.copyOf(filtered, filteredLength);
+        }
+
+        private boolean isInterested(T interceptor, Class<?> filterType) {
+
+            if (! (interceptor instanceof FilteringInterceptor)) {
+                return true;
+            }
+
+            for (Class<?> type : ((FilteringInterceptor) interceptor).getFilterTypes()) {
+                if (type.isAssignableFrom(filterType)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
     }
 
 }
@@ -21,9 +21,6 @@ package com.quartercode.eventbridge.def.channel;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
-import java.util.Collection;
-import java.util.LinkedList;
-import java.util.Queue;
 import com.quartercode.eventbridge.channel.ChannelInvocation;
 
 /**
@@ -34,37 +31,56 @@ import com.quartercode.eventbridge.channel.ChannelInvocation;
  */
 class DefaultChannelInvocation<T> implements ChannelInvocation<T> {
 
-    private final Class<T> interceptorType;
-    private final Queue<T> interceptors;
+    // Empty interceptors don't have any state, so one instance per interceptor type is enough
+    // They are only used as terminal interceptors by channels which don't provide their own one
+    private static final ClassValue<Object> EMPTY_INTERCEPTORS = new ClassValue<Object>() {
+
+        @Override
+        protected Object computeValue(Class<?> type) {
+
+            return Proxy.newProxyInstance(type.getClassLoader(), new Class[] { type }, new EmptyInvocationHandler());
+        }
+
+    };
+
+    private final T[] interceptors;
+    private final T   terminalInterceptor;
+    private int       nextIndex;
 
     /**
      * Creates a new default channel invocation object.
+     * Note that the given interceptor array is not copied, so it must not be modified after it has been passed to this constructor.
      * 
-     * @param interceptorType The type of interceptor that is called by the default channel invocation.
      * @param interceptors The actual interceptors for calling in the correct order (index {@code 0} is called first).
+     * @param terminalInterceptor The interceptor which is returned by {@link #next()} after all interceptors have been called.
      */
-    public DefaultChannelInvocation(Class<T> interceptorType, Collection<T> interceptors) {
+    public DefaultChannelInvocation(T[] interceptors, T terminalInterceptor) {
 
-        this.interceptorType = interceptorType;
-        this.interceptors = new LinkedList<>(interceptors);
+        this.interceptors = interceptors;
+        this.terminalInterceptor = terminalInterceptor;
     }
 
     @Override
     public T next() {
 
-        T next = interceptors.poll();
-
-        if (next == null) {
-            next = createEmptyInterceptor();
+        if (nextIndex < interceptors.length) {
+            return interceptors[nextIndex++];
+        } else {
+            return terminalInterceptor;
         }
-
-        return next;
     }
 
-    @SuppressWarnings ("unchecked")
-    private T createEmptyInterceptor() {
+    /**
+     * Returns a shared {@link Proxy} of the given interceptor type which doesn't do anything.
+     * All of its methods return default values ({@code null}, {@code 0} or {@code false}).
+     * Note that every call of the proxy allocates an argument array and is dispatched reflectively.
+     * 
+     * @param interceptorType The type of interceptor the returned empty interceptor should implement.
+     * @return The shared empty interceptor for the given interceptor type.
+     */
+    static <T> T getEmptyInterceptor(Class<T> interceptorType) {
 
-        return (T) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[] { interceptorType }, new EmptyInvocationHandler());
+        return interceptorType.cast(EMPTY_INTERCEPTORS.get(interceptorType));
     }
 
     private static class EmptyInvocationHandler implements InvocationHandler {
@@ -0,0 +1,253 @@
+/*
+ * This file is part of EventBridge.
+ * Copyright (c) 2014 QuarterCode <http://www.quartercode.com/>
+ *
+ * EventBridge is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of
+ * the License, or (at your option) any later version.
+ *
+ * EventBridge is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EventBridge. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.quartercode.eventbridge.def.extra.bridge;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.quartercode.eventbridge.bridge.BridgeConnector;
+import com.quartercode.eventbridge.bridge.Event;
+import com.quartercode.eventbridge.def.bridge.DefaultBridge;
+import com.quartercode.eventbridge.extra.bridge.RingBufferBridge;
+
+/**
+ * The default implementation of the {@link RingBufferBridge} interface.
+ * It uses the same modules as the {@link DefaultBridge}.<br>
+ * <br>
+ * Any number of threads can claim slots in the ring buffer at the same time.
+ * A slot is claimed by atomically incrementing a global sequence number.
+ * After the event has been stored in its slot, the slot is marked as published with that sequence number.
+ * The single consumer thread waits for the next sequence number to be published, frees the slot and handles the event.
+ * If there's nothing to do for a while, the consumer thread parks until the next event is published.<br>
+ * <br>
+ * Note that events which are handled at the same time as the bridge is shut down might not be handled at all.
+ * 
+ * @see RingBufferBridge
+ */
+public class DefaultRingBufferBridge extends DefaultBridge implements RingBufferBridge {
+
+    private static final Logger     LOGGER           = LoggerFactory.getLogger(DefaultRingBufferBridge.class);
+
+    private static final int        DEFAULT_CAPACITY = 1024;
+    private static final int        SPIN_TRIES       = 100;
+    private static final long       PARK_NANOS       = 1000;
+
+    private final int               indexMask;
+    private final Event[]           events;
+    private final BridgeConnector[] sources;
+    private final AtomicLongArray   published;
+
+    private final AtomicLong        claimSequence    = new AtomicLong(-1);
+    private volatile long           consumeSequence  = -1;
+
+    private final Thread            consumer;
+    private volatile boolean        running          = true;
+    private volatile boolean        consumerParked;
+
+    /**
+     * Creates a new default ring buffer bridge with a ring buffer capacity of 1024 events.
+     * The consumer thread is started immediately.
+     */
+    public DefaultRingBufferBridge() {
+
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new default ring buffer bridge with the given ring buffer capacity.
+     * The consumer thread is started immediately.
+     * 
+     * @param capacity The amount of events the ring buffer can hold at the same time.
+     *        It must be a power of two.
+     */
+    public DefaultRingBufferBridge(int capacity) {
+
+        Validate.isTrue(capacity > 0 && Integer.bitCount(capacity) == 1, "The capacity of a ring buffer bridge must be a power of two (is %d)", capacity);
+
+        indexMask = capacity - 1;
+        events = new Event[capacity];
+        sources = new BridgeConnector[capacity];
+        published = new AtomicLongArray(capacity);
+        for (int index = 0; index < capacity; index++) {
+            published.set(index, -1);
+        }
+
+        consumer = new Thread(new Consumer(), "EventBridge Ring Buffer Consumer");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    @Override
+    public int getCapacity() {
+
+        return events.length;
+    }
+
+    @Override
+    public void handle(Event event, BridgeConnector source) {
+
+        if (Thread.currentThread() == consumer) {
+            super.handle(event, source);
+            return;
+        }
+
+        long sequence = claim(1);
+        publish(sequence, event, source);
+        signalConsumer();
+    }
+
+    @Override
+    public void handle(Collection<? extends Event> events, BridgeConnector source) {
+
+        if (Thread.currentThread() == consumer) {
+            super.handle(events, source);
+            return;
+        }
+
+        Event[] batch = events.toArray(new Event[events.size()]);
+        int offset = 0;
+        while (offset < batch.length) {
+            // Claim as many slots as possible at once
+            int count = Math.min(batch.length - offset, getCapacity());
+            long lastSequence = claim(count);
+
+            for (long sequence = lastSequence - count + 1; sequence <= lastSequence; sequence++) {
+                publish(sequence, batch[offset++], source);
+            }
+
+            signalConsumer();
+        }
+    }
+
+    private long claim(int count) {
+
+        int tries = 0;
+        while (true) {
+            Validate.validState(running, "Ring buffer bridge has already been shut down");
+
+            long current = claimSequence.get();
+            long next = current + count;
+
+            if (next - getCapacity() > consumeSequence) {
+                // The ring buffer is full; wait for the consumer to free some slots
+                idle(tries++);
+            } else if (claimSequence.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    private void publish(long sequence, Event event, BridgeConnector source) {
+
+        int index = (int) (sequence & indexMask);
+        events[index] = event;
+        sources[index] = source;
+        published.set(index, sequence);
+    }
+
+    private void signalConsumer() {
+
+        if (consumerParked) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    private void idle(int tries) {
+
+        if (tries < SPIN_TRIES) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+
+        running = false;
+        LockSupport.unpark(consumer);
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+
+        long millis = unit.toMillis(timeout);
+        if (millis > 0) {
+            consumer.join(millis);
+        }
+
+        return !consumer.isAlive();
+    }
+
+    private class Consumer implements Runnable {
+
+        @Override
+        public void run() {
+
+            long next = consumeSequence + 1;
+            int tries = 0;
+
+            while (true) {
+                int index = (int) (next & indexMask);
+
+                if (published.get(index) == next) {
+                    Event event = events[index];
+                    BridgeConnector source = sources[index];
+                    events[index] = null;
+                    sources[index] = null;
+
+                    // Free the slot before handling the event so the producers can continue
+                    consumeSequence = next++;
+                    tries = 0;
+
+                    dispatch(event, source);
+                } else if (!running && claimSequence.get() < next) {
+                    // All claimed slots have been handled
+                    break;
+                } else if (tries < SPIN_TRIES) {
+                    tries++;
+                    Thread.yield();
+                } else {
+                    // The flag must be set before the last check; producers read it after publishing
+                    consumerParked = true;
+                    if (published.get(index) != next && running) {
+                        LockSupport.park(this);
+                    }
+                    consumerParked = false;
+                }
+            }
+        }
+
+        private void dispatch(Event event, BridgeConnector source) {
+
+            try {
+                DefaultRingBufferBridge.super.handle(event, source);
+            } catch (RuntimeException e) {
+                LOGGER.error("Error while handling event '{}' received by bridge connector '{}'", event, source, e);
+            }
+        }
+
+    }
+
+}
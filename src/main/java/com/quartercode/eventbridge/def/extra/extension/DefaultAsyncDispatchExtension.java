@@ -0,0 +1,186 @@
+/*
+ * This file is part of EventBridge.
+ * Copyright (c) 2014 QuarterCode <http://www.quartercode.com/>
+ *
+ * EventBridge is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of
+ * the License, or (at your option) any later version.
+ *
+ * EventBridge is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EventBridge. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.quartercode.eventbridge.def.extra.extension;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.quartercode.eventbridge.basic.AbstractBridgeModule;
+import com.quartercode.eventbridge.bridge.Bridge;
+import com.quartercode.eventbridge.bridge.BridgeConnector;
+import com.quartercode.eventbridge.bridge.Event;
+import com.quartercode.eventbridge.bridge.module.HandlerModule;
+import com.quartercode.eventbridge.bridge.module.HandlerModule.HandleInterceptor;
+import com.quartercode.eventbridge.channel.ChannelInvocation;
+import com.quartercode.eventbridge.extra.extension.AsyncDispatchExtension;
+
+/**
+ * The default default implementation of the {@link AsyncDispatchExtension} interface.
+ * 
+ * @see AsyncDispatchExtension
+ */
+public class DefaultAsyncDispatchExtension extends AbstractBridgeModule implements AsyncDispatchExtension {
+
+    private static final Logger                  LOGGER                         = LoggerFactory.getLogger(DefaultAsyncDispatchExtension.class);
+
+    private final AsyncDispatchHandleInterceptor asyncDispatchHandleInterceptor = new AsyncDispatchHandleInterceptor();
+
+    private final Executor                       executor;
+    private final boolean                        ownsExecutor;
+
+    /**
+     * Creates a new async dispatch extension which uses its own single thread {@link Executor}.
+     * That executor works like an event loop and processes all events in the order they were dispatched.
+     * It is shut down when the extension is removed from its bridge.
+     * See the {@link AsyncDispatchExtension} javadoc for more details on how to use the extension.
+     */
+    public DefaultAsyncDispatchExtension() {
+
+        executor = Executors.newSingleThreadExecutor(new DaemonThreadFactory());
+        ownsExecutor = true;
+    }
+
+    /**
+     * Creates a new async dispatch extension which uses the given {@link Executor} for dispatching events.
+     * The executor is not shut down when the extension is removed from its bridge.
+     * See the {@link AsyncDispatchExtension} javadoc for more details on how to use the extension.
+     * 
+     * @param executor The executor which should run the sending and handling processes of the dispatched events.
+     */
+    public DefaultAsyncDispatchExtension(Executor executor) {
+
+        Validate.notNull(executor, "The executor of an async dispatch extension cannot be null");
+
+        this.executor = executor;
+        ownsExecutor = false;
+    }
+
+    @Override
+    public void add(Bridge bridge) {
+
+        super.add(bridge);
+
+        bridge.getModule(HandlerModule.class).getChannel().addInterceptor(asyncDispatchHandleInterceptor, 1000);
+    }
+
+    @Override
+    public void remove() {
+
+        getBridge().getModule(HandlerModule.class).getChannel().removeInterceptor(asyncDispatchHandleInterceptor);
+
+        if (ownsExecutor) {
+            ((ExecutorService) executor).shutdown();
+        }
+
+        super.remove();
+    }
+
+    @Override
+    public Executor getExecutor() {
+
+        return executor;
+    }
+
+    @Override
+    public Future<?> sendAsync(Event event) {
+
+        FutureTask<Void> task = new FutureTask<>(new SendTask(getBridge(), event), null);
+        executor.execute(task);
+        return task;
+    }
+
+    private static class SendTask implements Runnable {
+
+        private final Bridge bridge;
+        private final Event  event;
+
+        private SendTask(Bridge bridge, Event event) {
+
+            this.bridge = bridge;
+            this.event = event;
+        }
+
+        @Override
+        public void run() {
+
+            bridge.send(event);
+        }
+
+    }
+
+    private class AsyncDispatchHandleInterceptor implements HandleInterceptor {
+
+        @Override
+        public void handle(ChannelInvocation<HandleInterceptor> invocation, Event event, BridgeConnector source) {
+
+            // Events which were sent by the local bridge are already dispatched by sendAsync() or intentionally sent synchronously
+            if (source == null) {
+                invocation.next().handle(invocation, event, source);
+            } else {
+                // The remaining part of the invocation is continued by the executor; this thread doesn't touch the invocation anymore
+                executor.execute(new HandleTask(invocation, event, source));
+            }
+        }
+
+    }
+
+    private static class HandleTask implements Runnable {
+
+        private final ChannelInvocation<HandleInterceptor> invocation;
+        private final Event                                event;
+        private final BridgeConnector                      source;
+
+        private HandleTask(ChannelInvocation<HandleInterceptor> invocation, Event event, BridgeConnector source) {
+
+            this.invocation = invocation;
+            this.event = event;
+            this.source = source;
+        }
+
+        @Override
+        public void run() {
+
+            try {
+                invocation.next().handle(invocation, event, source);
+            } catch (RuntimeException e) {
+                LOGGER.error("Error while asynchronously handling event '{}' received by bridge connector '{}'", event, source, e);
+            }
+        }
+
+    }
+
+    private static class DaemonThreadFactory implements ThreadFactory {
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+
+            Thread thread = new Thread(runnable, "EventBridge Async Dispatch");
+            thread.setDaemon(true);
+            return thread;
+        }
+
+    }
+
+}
@@ -30,6 +30,7 @@ import com.quartercode.eventbridge.bridge.module.HandlerModule;
 import com.quartercode.eventbridge.bridge.module.HandlerModule.HandleInterceptor;
 import com.quartercode.eventbridge.channel.Channel;
 import com.quartercode.eventbridge.channel.ChannelInvocation;
+import com.quartercode.eventbridge.channel.FilteringInterceptor;
 import com.quartercode.eventbridge.def.channel.DefaultChannel;
 import com.quartercode.eventbridge.extra.extension.ReturnEventExtensionRequester;
 
@@ -40,8 +41,8 @@ import com.quartercode.eventbridge.extra.extension.ReturnEventExtensionRequester
  */
 public class DefaultReturnEventExtensionRequester extends AbstractBridgeModule implements ReturnEventExtensionRequester {
 
-    private final Channel<RequestSendInterceptor>  requestSendChannel           = new DefaultChannel<>(RequestSendInterceptor.class);
-    private final Channel<ReturnHandleInterceptor> returnHandleChannel          = new DefaultChannel<>(ReturnHandleInterceptor.class);
+    private final Channel<RequestSendInterceptor>  requestSendChannel           = new DefaultChannel<>(RequestSendInterceptor.class, new EmptyRequestSendInterceptor());
+    private final Channel<ReturnHandleInterceptor> returnHandleChannel          = new DefaultChannel<>(ReturnHandleInterceptor.class, new EmptyReturnHandleInterceptor());
 
     private final CatchReturnHandleInterceptor     catchReturnHandleInterceptor = new CatchReturnHandleInterceptor();
 
@@ -89,7 +90,7 @@ public class DefaultReturnEventExtensionRequester extends AbstractBridgeModule i
     @Override
     public void sendRequest(Event request, EventHandler<?> returnHandler) {
 
-        ChannelInvocation<RequestSendInterceptor> invocation = requestSendChannel.invoke();
+        ChannelInvocation<RequestSendInterceptor> invocation = requestSendChannel.invoke(request.getClass());
         invocation.next().sendRequest(invocation, request, returnHandler);
     }
 
@@ -124,7 +125,13 @@ public class DefaultReturnEventExtensionRequester extends AbstractBridgeModule i
 
     }
 
-    private class CatchReturnHandleInterceptor implements HandleInterceptor {
+    private class CatchReturnHandleInterceptor implements HandleInterceptor, FilteringInterceptor {
+
+        @Override
+        public Class<?>[] getFilterTypes() {
+
+            return new Class<?>[] { ReturnEventExtensionWrapper.class };
+        }
 
         @Override
         public void handle(ChannelInvocation<HandleInterceptor> invocation, Event event, BridgeConnector source) {
@@ -154,10 +161,28 @@ public class DefaultReturnEventExtensionRequester extends AbstractBridgeModule i
 
         private void invokeReturnHandleChannel(Event returnEvent, BridgeConnector source, EventHandler<?> returnHandler) {
 
-            ChannelInvocation<ReturnHandleInterceptor> invocation = returnHandleChannel.invoke();
+            ChannelInvocation<ReturnHandleInterceptor> invocation = returnHandleChannel.invoke(returnEvent.getClass());
             invocation.next().handleReturn(invocation, returnEvent, source, returnHandler);
         }
 
     }
 
+    private static class EmptyRequestSendInterceptor implements RequestSendInterceptor {
+
+        @Override
+        public void sendRequest(ChannelInvocation<RequestSendInterceptor> invocation, Event request, EventHandler<?> returnHandler) {
+
+        }
+
+    }
+
+    private static class EmptyReturnHandleInterceptor implements ReturnHandleInterceptor {
+
+        @Override
+        public void handleReturn(ChannelInvocation<ReturnHandleInterceptor> invocation, Event returnEvent, BridgeConnector source, EventHandler<?> returnHandler) {
+
+        }
+
+    }
+
 }
@@ -19,6 +19,7 @@
 package com.quartercode.eventbridge.def.extra.extension;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -26,6 +27,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.quartercode.eventbridge.basic.AbstractBridgeModule;
+import com.quartercode.eventbridge.basic.EventUtils.EventTypeClassValue;
 import com.quartercode.eventbridge.bridge.BridgeConnector;
 import com.quartercode.eventbridge.bridge.BridgeConnectorException;
 import com.quartercode.eventbridge.bridge.Event;
@@ -49,7 +51,7 @@ public class DefaultReturnEventExtensionReturner extends AbstractBridgeModule im
 
     private static final Logger                                  LOGGER                            = LoggerFactory.getLogger(DefaultReturnEventExtensionReturner.class);
 
-    private final Channel<RequestHandleInterceptor>              requestHandleChannel              = new DefaultChannel<>(RequestHandleInterceptor.class);
+    private final Channel<RequestHandleInterceptor>              requestHandleChannel              = new DefaultChannel<>(RequestHandleInterceptor.class, new EmptyRequestHandleInterceptor());
 
     private final Map<RequestEventHandler<?>, EventPredicate<?>> requestHandlers                   = new ConcurrentHashMap<>();
     private final Map<RequestEventHandler<?>, LowLevelHandler>   lowLevelRequestHandlers           = new ConcurrentHashMap<>();
@@ -68,8 +70,8 @@ public class DefaultReturnEventExtensionReturner extends AbstractBridgeModule im
     @Override
     public void remove() {
 
-        for (LowLevelHandler lowLevelHandler : lowLevelRequestHandlers.values()) {
-            getBridge().getModule(LowLevelHandlerModule.class).removeHandler(lowLevelHandler);
+        if (!lowLevelRequestHandlers.isEmpty()) {
+            getBridge().getModule(LowLevelHandlerModule.class).removeHandlers(new ArrayList<>(lowLevelRequestHandlers.values()));
         }
 
         super.remove();
@@ -121,6 +123,59 @@ public class DefaultReturnEventExtensionReturner extends AbstractBridgeModule im
         }
     }
 
+    @Override
+    public void addRequestHandlers(Map<? extends RequestEventHandler<?>, ? extends EventPredicate<?>> requestHandlers) {
+
+        List<LowLevelHandler> newLowLevelHandlers = new ArrayList<>(requestHandlers.size());
+        for (Map.Entry<? extends RequestEventHandler<?>, ? extends EventPredicate<?>> requestHandler : requestHandlers.entrySet()) {
+            this.requestHandlers.put(requestHandler.getKey(), requestHandler.getValue());
+
+            EventPredicate<?> wrapperPredicate = new ReturnEventExtensionWrapperPredicate(requestHandler.getValue());
+            LowLevelHandler lowLevelHandler = new LowLevelHandlerAdapter(requestHandler.getKey(), wrapperPredicate);
+            lowLevelRequestHandlers.put(requestHandler.getKey(), lowLevelHandler);
+            newLowLevelHandlers.add(lowLevelHandler);
+        }
+        requestHandlersUnmodifiableCache = null;
+
+        if (!newLowLevelHandlers.isEmpty()) {
+            getBridge().getModule(LowLevelHandlerModule.class).addHandlers(newLowLevelHandlers);
+        }
+
+        for (Map.Entry<? extends RequestEventHandler<?>, ? extends EventPredicate<?>> requestHandler : requestHandlers.entrySet()) {
+            for (ModifyRequestHandlerListListener listener : modifyRequestHandlerListListeners) {
+                listener.onAddRequestHandler(requestHandler.getKey(), requestHandler.getValue(), this);
+            }
+        }
+    }
+
+    @Override
+    public void removeRequestHandlers(Collection<? extends RequestEventHandler<?>> requestHandlers) {
+
+        List<LowLevelHandler> removedLowLevelHandlers = new ArrayList<>(requestHandlers.size());
+        for (RequestEventHandler<?> requestHandler : requestHandlers) {
+            // The request handler might be contained multiple times in the given collection
+            LowLevelHandler lowLevelHandler = lowLevelRequestHandlers.remove(requestHandler);
+
+            if (lowLevelHandler != null) {
+                EventPredicate<?> predicate = this.requestHandlers.get(requestHandler);
+                for (ModifyRequestHandlerListListener listener : modifyRequestHandlerListListeners) {
+                    listener.onRemoveRequestHandler(requestHandler, predicate, this);
+                }
+
+                removedLowLevelHandlers.add(lowLevelHandler);
+            }
+        }
+
+        if (!removedLowLevelHandlers.isEmpty()) {
+            getBridge().getModule(LowLevelHandlerModule.class).removeHandlers(removedLowLevelHandlers);
+        }
+
+        for (RequestEventHandler<?> requestHandler : requestHandlers) {
+            this.requestHandlers.remove(requestHandler);
+        }
+        requestHandlersUnmodifiableCache = null;
+    }
+
     @Override
     public void addModifyRequestHandlerListListener(ModifyRequestHandlerListListener listener) {
 
@@ -160,6 +215,7 @@ public class DefaultReturnEventExtensionReturner extends AbstractBridgeModule im
         public void handle(Event event, BridgeConnector source) {
 
             ReturnEventExtensionWrapper wrapper = (ReturnEventExtensionWrapper) event;
+            Event request = wrapper.getEvent();
 
             ReturnEventSender returnSender = null;
             if (source == null) {
@@ -168,8 +224,8 @@ public class DefaultReturnEventExtensionReturner extends AbstractBridgeModule im
                 returnSender = new BridgeConnectorReturnEventSender(wrapper.getRequestId(), source);
             }
 
-            ChannelInvocation<RequestHandleInterceptor> invocation = requestHandleChannel.invoke();
-            invocation.next().handleRequest(invocation, wrapper.getEvent(), source, requestHandler, returnSender);
+            ChannelInvocation<RequestHandleInterceptor> invocation = requestHandleChannel.invoke(request.getClass());
+            invocation.next().handleRequest(invocation, request, source, requestHandler, returnSender);
         }
 
         private class LocalBridgeReturnEventSender implements ReturnEventSender {
@@ -216,6 +272,8 @@ public class DefaultReturnEventExtensionReturner extends AbstractBridgeModule im
 
     private static class LastRequestHandleInterceptor implements RequestHandleInterceptor {
 
+        private static final ClassValue<Class<? extends Event>> REQUEST_HANDLER_EVENT_TYPES = new EventTypeClassValue(RequestEventHandler.class);
+
         @Override
         public void handleRequest(ChannelInvocation<RequestHandleInterceptor> invocation, Event request, BridgeConnector source, RequestEventHandler<?> requestHandler, ReturnEventSender returnSender) {
 
@@ -226,6 +284,11 @@ public class DefaultReturnEventExtensionReturner extends AbstractBridgeModule im
 
         private <T extends Event> void tryHandle(RequestEventHandler<T> handler, Event event, ReturnEventSender sender) {
 
+            // Avoid the expensive exception if the event type is known to be wrong
+            if (!REQUEST_HANDLER_EVENT_TYPES.get(handler.getClass()).isInstance(event)) {
+                return;
+            }
+
             try {
                 @SuppressWarnings ("unchecked")
                 T castedEvent = (T) event;
@@ -237,4 +300,13 @@ public class DefaultReturnEventExtensionReturner extends AbstractBridgeModule im
 
     }
 
+    private static class EmptyRequestHandleInterceptor implements RequestHandleInterceptor {
+
+        @Override
+        public void handleRequest(ChannelInvocation<RequestHandleInterceptor> invocation, Event request, BridgeConnector source, RequestEventHandler<?> requestHandler, ReturnEventSender returnSender) {
+
+        }
+
+    }
+
 }
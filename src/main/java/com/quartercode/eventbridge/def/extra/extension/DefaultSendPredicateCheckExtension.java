@@ -18,13 +18,21 @@
 
 package com.quartercode.eventbridge.def.extra.extension;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.Validate;
 import com.quartercode.eventbridge.basic.AbstractBridgeModule;
 import com.quartercode.eventbridge.basic.EventBase;
-import com.quartercode.eventbridge.basic.EventUtils;
 import com.quartercode.eventbridge.bridge.Bridge;
 import com.quartercode.eventbridge.bridge.Bridge.ModifyConnectorListListener;
 import com.quartercode.eventbridge.bridge.BridgeConnector;
@@ -39,29 +47,94 @@ import com.quartercode.eventbridge.bridge.module.LowLevelHandlerModule;
 import com.quartercode.eventbridge.bridge.module.LowLevelHandlerModule.GlobalLowLevelHandleInterceptor;
 import com.quartercode.eventbridge.bridge.module.LowLevelHandlerModule.ModifyLowLevelHandlerListListener;
 import com.quartercode.eventbridge.channel.ChannelInvocation;
+import com.quartercode.eventbridge.channel.FilteringInterceptor;
 import com.quartercode.eventbridge.extra.extension.SendPredicateCheckExtension;
+import com.quartercode.eventbridge.extra.predicate.PredicateNetwork;
 
 /**
  * The default default implementation of the {@link SendPredicateCheckExtension} interface.
+ * The remote predicates of each connector are compiled into a {@link PredicateNetwork} whose class cache is enabled.
+ * Therefore, checking whether a connector is interested in an event normally only requires one lookup per event class.
+ * Only predicates which don't solely depend on the event class are still tested for every event.
+ * Those networks can be read by many sending threads at once without locking, while new predicates arrive on other threads.
+ * Events are not sent to connectors which haven't sent any predicates yet.<br>
+ * <br>
+ * Each distinct local predicate is assigned an id and is only sent in full when it is first propagated.
+ * After that, the other bridges only receive id deltas, which are applied to reference counts.
+ * Therefore, identical predicates of many handlers are stored and tested only once on the other side.<br>
+ * <br>
+ * Local predicate changes are collected into a delta in which additions and removals of the same predicate cancel each other out.
+ * By default, that delta is sent as soon as no predicate update is in progress.
+ * Optionally, a flush delay can be configured; changes are then sent at most once per delay, as one compact event.
+ * The predicate events are sent after all locks of the extension have been released, since connectors might synchronously call into other bridges which answer.
+ * If another thread is already sending predicate events of the extension, that thread sends the new events as well.
  * 
  * @see SendPredicateCheckExtension
  */
 public class DefaultSendPredicateCheckExtension extends AbstractBridgeModule implements SendPredicateCheckExtension {
 
-    private final SPCEModifyLowLevelHandlerListListener         modifyLowLevelHandlerListListener = new SPCEModifyLowLevelHandlerListListener();
-    private final SPCEModifyConnectorListListener               modifyConnectorListListener       = new SPCEModifyConnectorListListener();
-    private final SPCEGlobalLowLevelHandleInterceptor           globalLowLevelHandleInterceptor   = new SPCEGlobalLowLevelHandleInterceptor();
-    private final SPCESpecificConnectorSendInterceptor          specificConnectorSendInterceptor  = new SPCESpecificConnectorSendInterceptor();
-    private final SPCELocalHandlerSendInterceptor               localHandlerSendInterceptor       = new SPCELocalHandlerSendInterceptor();
-
-    private final Map<BridgeConnector, List<EventPredicate<?>>> predicates                        = new HashMap<>();
+    private final SPCEModifyLowLevelHandlerListListener     modifyLowLevelHandlerListListener = new SPCEModifyLowLevelHandlerListListener();
+    private final SPCEModifyConnectorListListener           modifyConnectorListListener       = new SPCEModifyConnectorListListener();
+    private final SPCEGlobalLowLevelHandleInterceptor       globalLowLevelHandleInterceptor   = new SPCEGlobalLowLevelHandleInterceptor();
+    private final SPCESpecificConnectorSendInterceptor      specificConnectorSendInterceptor  = new SPCESpecificConnectorSendInterceptor();
+    private final SPCELocalHandlerSendInterceptor           localHandlerSendInterceptor       = new SPCELocalHandlerSendInterceptor();
+
+    // Read without locking by all sending threads; a connector without an entry isn't interested in any event
+    private final Map<BridgeConnector, ConnectorPredicates> predicates                        = new ConcurrentHashMap<>();
+    // Serializes the modifications of the remote predicates, which may arrive on different threads
+    private final Object                                    predicatesLock                    = new Object();
+
+    private final ScheduledExecutorService                  flushExecutor;
+    private final long                                      flushDelay;
+    private final TimeUnit                                  flushDelayUnit;
+
+    // The local predicate changes which haven't been sent yet, mapped to their net count (positive for additions, negative for removals)
+    private final Map<EventPredicate<?>, Integer>           pendingChanges                    = new LinkedHashMap<>();
+    // Keeps the order of the queued deltas consistent with the order of the changes
+    private final Object                                    flushLock                         = new Object();
+    // The SetPredicatesEvents which have been created while holding the flush lock, but haven't been sent yet
+    // They are sent without holding any lock because connectors like the LocalBridgeConnector synchronously call into other bridges, which might answer
+    private final Deque<OutgoingEvent>                      outgoingEvents                    = new ArrayDeque<>();
+    // Guarded by outgoingEvents; whether a thread is sending the outgoing events at the moment
+    private boolean                                         sendingOutgoingEvents;
+    // The local predicates the other bridges already know; guarded by flushLock
+    private final Map<EventPredicate<?>, SentPredicate>     sentPredicates                    = new HashMap<>();
+    private long                                            nextPredicateId;
+    // Guarded by pendingChanges
+    private int                                             updateDepth;
+    private boolean                                         flushScheduled;
 
     /**
-     * Creates a new send predicate check extension.
+     * Creates a new send predicate check extension which sends local predicate changes as soon as no predicate update is in progress.
      * See the {@link SendPredicateCheckExtension} javadoc for more details on how to use the extension.
      */
     public DefaultSendPredicateCheckExtension() {
 
+        flushExecutor = null;
+        flushDelay = 0;
+        flushDelayUnit = null;
+    }
+
+    /**
+     * Creates a new send predicate check extension which collects local predicate changes for the given delay before sending them.
+     * That way, handler churn (e.g. a handler which is added and removed shortly after) doesn't cause any traffic at all.
+     * The given {@link ScheduledExecutorService} runs the delayed flushes; it is not shut down when the extension is removed from its bridge.
+     * Note that ending the outermost predicate update still sends the collected changes immediately.
+     * See the {@link SendPredicateCheckExtension} javadoc for more details on how to use the extension.
+     * 
+     * @param flushExecutor The scheduled executor service which should run the delayed flushes.
+     * @param flushDelay The amount of time local predicate changes are collected before they are sent.
+     * @param flushDelayUnit The {@link TimeUnit} of the flush delay.
+     */
+    public DefaultSendPredicateCheckExtension(ScheduledExecutorService flushExecutor, long flushDelay, TimeUnit flushDelayUnit) {
+
+        Validate.notNull(flushExecutor, "The flush executor of a send predicate check extension cannot be null");
+        Validate.isTrue(flushDelay >= 0, "The flush delay of a send predicate check extension cannot be negative (is %d)", flushDelay);
+        Validate.notNull(flushDelayUnit, "The flush delay unit of a send predicate check extension cannot be null");
+
+        this.flushExecutor = flushExecutor;
+        this.flushDelay = flushDelay;
+        this.flushDelayUnit = flushDelayUnit;
     }
 
     @Override
@@ -69,10 +142,6 @@ public class DefaultSendPredicateCheckExtension extends AbstractBridgeModule imp
 
         super.add(bridge);
 
-        // Listeners for sending SetPredicatesEvents
-        bridge.getModule(LowLevelHandlerModule.class).addModifyHandlerListListener(modifyLowLevelHandlerListListener);
-        bridge.addModifyConnectorListListener(modifyConnectorListListener);
-
         // Global low-level handle interceptor for receiving SetPredicatesEvents
         bridge.getModule(LowLevelHandlerModule.class).getGlobalChannel().addInterceptor(globalLowLevelHandleInterceptor, 50);
 
@@ -81,6 +150,22 @@ public class DefaultSendPredicateCheckExtension extends AbstractBridgeModule imp
 
         // Local handler send interceptor for stopping SetPredicatesEvents from being handled locally
         bridge.getModule(LocalHandlerSenderModule.class).getChannel().addInterceptor(localHandlerSendInterceptor, 50);
+
+        // Handlers which were added before the extension must be propagated to the already existing connectors as well
+        // Moreover, those connectors are asked for their predicates since they might have been sent to a previous extension
+        synchronized (flushLock) {
+            sentPredicates.clear();
+            for (LowLevelHandler handler : bridge.getModule(LowLevelHandlerModule.class).getHandlers()) {
+                addSentPredicate(handler.getPredicate(), 1);
+            }
+
+            queueEvent(bridge, createFullPredicatesEvent(true), null);
+        }
+        sendOutgoingEvents();
+
+        // Listeners for sending SetPredicatesEvents
+        bridge.getModule(LowLevelHandlerModule.class).addModifyHandlerListListener(modifyLowLevelHandlerListListener);
+        bridge.addModifyConnectorListListener(modifyConnectorListListener);
     }
 
     @Override
@@ -88,6 +173,18 @@ public class DefaultSendPredicateCheckExtension extends AbstractBridgeModule imp
 
         getBridge().getModule(LowLevelHandlerModule.class).removeModifyHandlerListListener(modifyLowLevelHandlerListListener);
         getBridge().removeModifyConnectorListListener(modifyConnectorListListener);
+
+        // Retract all predicates since another extension might reuse their ids later on
+        synchronized (flushLock) {
+            synchronized (pendingChanges) {
+                pendingChanges.clear();
+            }
+
+            sentPredicates.clear();
+            queueEvent(getBridge(), createFullPredicatesEvent(false), null);
+        }
+        sendOutgoingEvents();
+
         getBridge().getModule(LowLevelHandlerModule.class).getGlobalChannel().removeInterceptor(globalLowLevelHandleInterceptor);
         getBridge().getModule(ConnectorSenderModule.class).getSpecificChannel().removeInterceptor(specificConnectorSendInterceptor);
         getBridge().getModule(LocalHandlerSenderModule.class).getChannel().removeInterceptor(localHandlerSendInterceptor);
@@ -95,18 +192,252 @@ public class DefaultSendPredicateCheckExtension extends AbstractBridgeModule imp
         super.remove();
     }
 
-    private static class SPCEModifyLowLevelHandlerListListener implements ModifyLowLevelHandlerListListener {
+    @Override
+    public void beginPredicateUpdate() {
+
+        synchronized (pendingChanges) {
+            updateDepth++;
+        }
+    }
+
+    @Override
+    public void endPredicateUpdate() {
+
+        boolean flush;
+        synchronized (pendingChanges) {
+            Validate.validState(updateDepth > 0, "Can't end predicate update: No predicate update is in progress");
+            updateDepth--;
+            flush = updateDepth == 0;
+        }
+
+        if (flush) {
+            flushPredicateUpdates();
+        }
+    }
+
+    @Override
+    public void flushPredicateUpdates() {
+
+        synchronized (flushLock) {
+            List<Entry<EventPredicate<?>, Integer>> changes;
+            synchronized (pendingChanges) {
+                flushScheduled = false;
+                changes = new ArrayList<>(pendingChanges.entrySet());
+                pendingChanges.clear();
+            }
+
+            Bridge bridge = getBridge();
+            if (bridge == null || changes.isEmpty()) {
+                return;
+            }
+
+            SetPredicatesEventBuilder event = new SetPredicatesEventBuilder(changes.size());
+            for (Entry<EventPredicate<?>, Integer> change : changes) {
+                boolean defined = sentPredicates.containsKey(change.getKey());
+                SentPredicate sentPredicate = addSentPredicate(change.getKey(), change.getValue());
+
+                if (sentPredicate != null) {
+                    // The full predicate is only sent along with its first reference
+                    event.add(sentPredicate.id, change.getValue(), defined ? null : change.getKey());
+                }
+            }
+
+            if (!event.isEmpty()) {
+                queueEvent(bridge, event.build(), null);
+            }
+        }
+
+        sendOutgoingEvents();
+    }
+
+    // Must be called while holding the flush lock; returns null if the predicate has never been propagated
+    private SentPredicate addSentPredicate(EventPredicate<?> predicate, int change) {
+
+        SentPredicate sentPredicate = sentPredicates.get(predicate);
+
+        if (sentPredicate == null) {
+            if (change < 0) {
+                return null;
+            }
+
+            sentPredicate = new SentPredicate(nextPredicateId++, predicate);
+            sentPredicates.put(predicate, sentPredicate);
+        }
+
+        sentPredicate.count += change;
+        if (sentPredicate.count <= 0) {
+            sentPredicates.remove(predicate);
+        }
+
+        return sentPredicate;
+    }
+
+    private void addPendingChanges(List<LowLevelHandler> handlers, int change) {
+
+        boolean flush = false;
+        synchronized (pendingChanges) {
+            for (LowLevelHandler handler : handlers) {
+                EventPredicate<?> predicate = handler.getPredicate();
+                Integer count = pendingChanges.get(predicate);
+                int newCount = (count == null ? 0 : count) + change;
+
+                // Additions and removals of the same predicate cancel each other out
+                if (newCount == 0) {
+                    pendingChanges.remove(predicate);
+                } else {
+                    pendingChanges.put(predicate, newCount);
+                }
+            }
+
+            if (updateDepth == 0) {
+                if (flushExecutor == null) {
+                    flush = true;
+                } else if (!flushScheduled) {
+                    flushExecutor.schedule(new FlushTask(), flushDelay, flushDelayUnit);
+                    flushScheduled = true;
+                }
+            }
+        }
+
+        if (flush) {
+            flushPredicateUpdates();
+        }
+    }
+
+    // Must be called while holding the flush lock
+    private SetPredicatesEvent createFullPredicatesEvent(boolean replyRequested) {
+
+        SetPredicatesEventBuilder event = new SetPredicatesEventBuilder(sentPredicates.size());
+        for (SentPredicate sentPredicate : sentPredicates.values()) {
+            event.add(sentPredicate.id, sentPredicate.count, sentPredicate.predicate);
+        }
+
+        return event.build(true, replyRequested);
+    }
+
+    // Must be called while holding the flush lock, so the events are queued in the order in which they were created
+    // The event is sent to all connectors if the given connector is null
+    private void queueEvent(Bridge bridge, SetPredicatesEvent event, BridgeConnector connector) {
+
+        synchronized (outgoingEvents) {
+            outgoingEvents.add(new OutgoingEvent(bridge, event, connector));
+        }
+    }
+
+    // Must be called without holding the flush lock
+    private void sendOutgoingEvents() {
+
+        synchronized (outgoingEvents) {
+            // The thread which is already sending also sends the new events; that includes the current thread if an answer arrives while it's sending
+            if (sendingOutgoingEvents) {
+                return;
+            }
+
+            sendingOutgoingEvents = true;
+        }
+
+        boolean completed = false;
+        try {
+            OutgoingEvent event;
+            while ( (event = pollOutgoingEvent()) != null) {
+                event.send();
+            }
+
+            completed = true;
+        } finally {
+            if (!completed) {
+                synchronized (outgoingEvents) {
+                    sendingOutgoingEvents = false;
+                }
+            }
+        }
+    }
+
+    private OutgoingEvent pollOutgoingEvent() {
+
+        synchronized (outgoingEvents) {
+            OutgoingEvent event = outgoingEvents.poll();
+            if (event == null) {
+                sendingOutgoingEvents = false;
+            }
+
+            return event;
+        }
+    }
+
+    private static class OutgoingEvent {
+
+        private final Bridge             bridge;
+        private final SetPredicatesEvent event;
+        private final BridgeConnector    connector;
+
+        private OutgoingEvent(Bridge bridge, SetPredicatesEvent event, BridgeConnector connector) {
+
+            this.bridge = bridge;
+            this.event = event;
+            this.connector = connector;
+        }
+
+        private void send() {
+
+            if (connector == null) {
+                bridge.send(event);
+            } else {
+                ChannelInvocation<SpecificConnectorSendInterceptor> invocation = bridge.getModule(ConnectorSenderModule.class).getSpecificChannel().invoke(event.getClass());
+                invocation.next().send(invocation, event, connector);
+            }
+        }
+
+    }
+
+    private static class SentPredicate {
+
+        private final long              id;
+        private final EventPredicate<?> predicate;
+        private int                     count;
+
+        private SentPredicate(long id, EventPredicate<?> predicate) {
+
+            this.id = id;
+            this.predicate = predicate;
+        }
+
+    }
+
+    private class FlushTask implements Runnable {
+
+        @Override
+        public void run() {
+
+            flushPredicateUpdates();
+        }
+
+    }
+
+    private class SPCEModifyLowLevelHandlerListListener implements ModifyLowLevelHandlerListListener {
 
         @Override
         public void onAddHandler(LowLevelHandler handler, LowLevelHandlerModule module) {
 
-            module.getBridge().send(new SetPredicatesEvent(new EventPredicate<?>[] { handler.getPredicate() }, true));
+            addPendingChanges(Arrays.asList(handler), 1);
         }
 
         @Override
         public void onRemoveHandler(LowLevelHandler handler, LowLevelHandlerModule module) {
 
-            module.getBridge().send(new SetPredicatesEvent(new EventPredicate<?>[] { handler.getPredicate() }, false));
+            addPendingChanges(Arrays.asList(handler), -1);
+        }
+
+        @Override
+        public void onAddHandlers(List<LowLevelHandler> handlers, LowLevelHandlerModule module) {
+
+            addPendingChanges(handlers, 1);
+        }
+
+        @Override
+        public void onRemoveHandlers(List<LowLevelHandler> handlers, LowLevelHandlerModule module) {
+
+            addPendingChanges(handlers, -1);
         }
 
     }
@@ -116,25 +447,31 @@ public class DefaultSendPredicateCheckExtension extends AbstractBridgeModule imp
         @Override
         public void onAddConnector(BridgeConnector connector, Bridge bridge) {
 
-            List<LowLevelHandler> handlers = bridge.getModule(LowLevelHandlerModule.class).getHandlers();
-
-            EventPredicate<?>[] predicateArray = new EventPredicate<?>[handlers.size()];
-            for (int index = 0; index < predicateArray.length; index++) {
-                predicateArray[index] = handlers.get(index).getPredicate();
+            // Only send the predicates the other connectors already know; the pending changes follow with the next flush
+            // The other connectors already know all predicates, so the event is only sent to the new one
+            synchronized (flushLock) {
+                queueEvent(bridge, createFullPredicatesEvent(false), connector);
             }
-
-            bridge.send(new SetPredicatesEvent(predicateArray, true));
+            sendOutgoingEvents();
         }
 
         @Override
         public void onRemoveConnector(BridgeConnector connector, Bridge bridge) {
 
-            predicates.remove(connector);
+            synchronized (predicatesLock) {
+                predicates.remove(connector);
+            }
         }
 
     }
 
-    private class SPCEGlobalLowLevelHandleInterceptor implements GlobalLowLevelHandleInterceptor {
+    private class SPCEGlobalLowLevelHandleInterceptor implements GlobalLowLevelHandleInterceptor, FilteringInterceptor {
+
+        @Override
+        public Class<?>[] getFilterTypes() {
+
+            return new Class<?>[] { SetPredicatesEvent.class };
+        }
 
         @Override
         public void handle(ChannelInvocation<GlobalLowLevelHandleInterceptor> invocation, Event event, BridgeConnector source) {
@@ -150,39 +487,30 @@ public class DefaultSendPredicateCheckExtension extends AbstractBridgeModule imp
 
         private void handle(BridgeConnector connector, SetPredicatesEvent event) {
 
-            if (event.isAdd()) {
-                addPredicates(connector, event.getPredicates());
-            } else {
-                removePredicates(connector, event.getPredicates());
-            }
-        }
-
-        private void addPredicates(BridgeConnector connector, EventPredicate<?>[] addPredicates) {
-
-            List<EventPredicate<?>> connectorPredicates = predicates.get(connector);
+            synchronized (predicatesLock) {
+                // A full event replaces all predicates which were received from the connector before
+                ConnectorPredicates connectorPredicates = event.isFull() ? null : predicates.get(connector);
 
-            if (connectorPredicates == null) {
-                connectorPredicates = new ArrayList<>();
-                predicates.put(connector, connectorPredicates);
-            }
-
-            for (EventPredicate<?> predicate : addPredicates) {
-                connectorPredicates.add(predicate);
-            }
-        }
-
-        private void removePredicates(BridgeConnector connector, EventPredicate<?>[] removePredicates) {
+                if (connectorPredicates == null) {
+                    connectorPredicates = new ConnectorPredicates();
+                }
 
-            if (predicates.containsKey(connector)) {
-                List<EventPredicate<?>> connectorPredicates = predicates.get(connector);
+                connectorPredicates.apply(event);
 
-                for (EventPredicate<?> predicate : removePredicates) {
-                    connectorPredicates.remove(predicate);
+                // The entry is only published after the predicates have been applied; an empty entry is equivalent to no entry
+                if (connectorPredicates.network.isEmpty()) {
+                    predicates.remove(connector);
+                } else {
+                    predicates.put(connector, connectorPredicates);
                 }
+            }
 
-                if (connectorPredicates.isEmpty()) {
-                    predicates.remove(connector);
+            Bridge bridge = getBridge();
+            if (event.isReplyRequested() && bridge != null) {
+                synchronized (flushLock) {
+                    queueEvent(bridge, createFullPredicatesEvent(false), connector);
                 }
+                sendOutgoingEvents();
             }
         }
 
@@ -200,18 +528,94 @@ public class DefaultSendPredicateCheckExtension extends AbstractBridgeModule imp
 
         private boolean isInteresting(Event event, BridgeConnector connector) {
 
-            for (EventPredicate<?> predicate : predicates.get(connector)) {
-                if (EventUtils.tryTest(predicate, event)) {
-                    return true;
+            ConnectorPredicates connectorPredicates = predicates.get(connector);
+            return connectorPredicates != null && connectorPredicates.matchesAny(event);
+        }
+
+    }
+
+    // The remote predicates of one connector
+    private static class ConnectorPredicates {
+
+        // The values are compared by identity, so removing a predicate doesn't need any reflective equality checks
+        private final PredicateNetwork<RemotePredicate> network          = new PredicateNetwork<>();
+        // Guarded by the predicates lock
+        private final Map<Long, RemotePredicate>        remotePredicates = new HashMap<>();
+
+        private ConnectorPredicates() {
+
+            // Most remote predicates only depend on the event class, so the interest of the connector in an event class is usually a single lookup
+            network.setClassCacheEnabled(true);
+        }
+
+        private boolean matchesAny(Event event) {
+
+            return network.matchesAny(event);
+        }
+
+        // Must be called while holding the predicates lock
+        // Sending threads read the network while the event is applied, so the additions are applied before the removals
+        // That way, the intermediate states always contain all predicates of both the old and the new state, and no event which both of them match is dropped
+        private void apply(SetPredicatesEvent event) {
+
+            apply(event, true);
+            apply(event, false);
+        }
+
+        private void apply(SetPredicatesEvent event, boolean additions) {
+
+            long[] ids = event.getIds();
+            int[] counts = event.getCounts();
+            EventPredicate<?>[] definitions = event.getPredicates();
+
+            for (int index = 0; index < ids.length; index++) {
+                if (counts[index] > 0 != additions) {
+                    continue;
+                }
+
+                RemotePredicate remotePredicate = remotePredicates.get(ids[index]);
+
+                if (remotePredicate == null) {
+                    // Ignore references to predicates which haven't been defined
+                    if (definitions[index] == null) {
+                        continue;
+                    }
+
+                    remotePredicate = new RemotePredicate(definitions[index]);
+                    remotePredicates.put(ids[index], remotePredicate);
+                    network.add(remotePredicate, remotePredicate.predicate);
+                }
+
+                remotePredicate.count += counts[index];
+                if (remotePredicate.count <= 0) {
+                    remotePredicates.remove(ids[index]);
+                    network.remove(remotePredicate);
                 }
             }
+        }
+
+    }
+
+    // A remote predicate along with the amount of remote handlers that use it
+    private static class RemotePredicate {
+
+        private final EventPredicate<?> predicate;
+        private int                     count;
 
-            return false;
+        private RemotePredicate(EventPredicate<?> predicate) {
+
+            this.predicate = predicate;
         }
 
     }
 
-    private static class SPCELocalHandlerSendInterceptor implements LocalHandlerSendInterceptor {
+    private static class SPCELocalHandlerSendInterceptor implements LocalHandlerSendInterceptor, FilteringInterceptor {
+
+        @Override
+        public Class<?>[] getFilterTypes() {
+
+            return new Class<?>[] { SetPredicatesEvent.class };
+        }
 
         @Override
         public void send(ChannelInvocation<LocalHandlerSendInterceptor> invocation, Event event) {
@@ -223,27 +627,90 @@ public class DefaultSendPredicateCheckExtension extends AbstractBridgeModule imp
 
     }
 
+    // Carries reference count deltas for predicate ids; each predicate is only included along with the first reference to its id
     private static class SetPredicatesEvent extends EventBase {
 
-        private static final long         serialVersionUID = 7382589662643796833L;
+        private static final long         serialVersionUID = -6092553813877409211L;
 
+        private final long[]              ids;
+        private final int[]               counts;
         private final EventPredicate<?>[] predicates;
-        private final boolean             add;
+        private final boolean             full;
+        private final boolean             replyRequested;
 
-        private SetPredicatesEvent(EventPredicate<?>[] predicates, boolean add) {
+        private SetPredicatesEvent(long[] ids, int[] counts, EventPredicate<?>[] predicates, boolean full, boolean replyRequested) {
 
-            this.predicates = predicates.clone();
-            this.add = add;
+            this.ids = ids;
+            this.counts = counts;
+            this.predicates = predicates;
+            this.full = full;
+            this.replyRequested = replyRequested;
+        }
+
+        private long[] getIds() {
+
+            return ids;
+        }
+
+        private int[] getCounts() {
+
+            return counts;
         }
 
         private EventPredicate<?>[] getPredicates() {
 
-            return predicates.clone();
+            return predicates;
+        }
+
+        // Whether the event contains all predicates of the sender instead of a delta
+        private boolean isFull() {
+
+            return full;
+        }
+
+        // Whether the receiver should answer with a full event that contains all of its predicates
+        private boolean isReplyRequested() {
+
+            return replyRequested;
+        }
+
+    }
+
+    private static class SetPredicatesEventBuilder {
+
+        private final long[]              ids;
+        private final int[]               counts;
+        private final EventPredicate<?>[] predicates;
+        private int                       size;
+
+        private SetPredicatesEventBuilder(int capacity) {
+
+            ids = new long[capacity];
+            counts = new int[capacity];
+            predicates = new EventPredicate<?>[capacity];
+        }
+
+        private void add(long id, int count, EventPredicate<?> predicate) {
+
+            ids[size] = id;
+            counts[size] = count;
+            predicates[size] = predicate;
+            size++;
+        }
+
+        private boolean isEmpty() {
+
+            return size == 0;
+        }
+
+        private SetPredicatesEvent build() {
+
+            return build(false, false);
         }
 
-        private boolean isAdd() {
+        private SetPredicatesEvent build(boolean full, boolean replyRequested) {
 
-            return add;
+            return new SetPredicatesEvent(Arrays.copyOf(ids, size), Arrays.copyOf(counts, size), Arrays.copyOf(predicates, size), full, replyRequested);
         }
 
     }
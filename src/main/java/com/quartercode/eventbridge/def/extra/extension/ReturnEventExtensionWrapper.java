@@ -23,6 +23,9 @@ import com.quartercode.eventbridge.basic.EventPredicateBase;
 import com.quartercode.eventbridge.basic.EventUtils;
 import com.quartercode.eventbridge.bridge.Event;
 import com.quartercode.eventbridge.bridge.EventPredicate;
+import com.quartercode.eventbridge.extra.predicate.TypeBoundPredicate;
+import com.quartercode.eventbridge.extra.predicate.WrappingEvent;
+import com.quartercode.eventbridge.extra.predicate.WrappingTypeBoundPredicate;
 
 /**
  * The return event extension wrapper wraps around an {@link Event} and stores a {@code requestId}.
@@ -30,7 +33,7 @@ import com.quartercode.eventbridge.bridge.EventPredicate;
  * 
  * @see ReturnEventExtensionWrapperPredicate
  */
-public class ReturnEventExtensionWrapper extends EventBase {
+public class ReturnEventExtensionWrapper extends EventBase implements WrappingEvent {
 
     private static final long serialVersionUID = -7635621226887580047L;
 
@@ -63,6 +66,12 @@ public class ReturnEventExtensionWrapper extends EventBase {
         return event;
     }
 
+    @Override
+    public Event getWrappedEvent() {
+
+        return event;
+    }
+
     /**
      * Returns the request id that is stored by the handler.
      * It is used by the {@link DefaultReturnEventExtensionRequester} to recognize return events.
@@ -87,10 +96,11 @@ public class ReturnEventExtensionWrapper extends EventBase {
     /**
      * The return event extension wrapper predicate tests the {@link Event} which is wrapped by a {@link ReturnEventExtensionWrapper}.
      * For doing that, it takes another {@link EventPredicate} which takes care of testing the wrapped event.
+     * If that predicate is a {@link TypeBoundPredicate}, its bound type is used as the bound type of the wrapped events.
      * 
      * @see ReturnEventExtensionWrapper
      */
-    public static class ReturnEventExtensionWrapperPredicate extends EventPredicateBase<ReturnEventExtensionWrapper> {
+    public static class ReturnEventExtensionWrapperPredicate extends EventPredicateBase<ReturnEventExtensionWrapper> implements WrappingTypeBoundPredicate<ReturnEventExtensionWrapper> {
 
         private static final long       serialVersionUID = 8044226686785560676L;
 
@@ -106,6 +116,22 @@ public class ReturnEventExtensionWrapper extends EventBase {
             this.wrappedPredicate = wrappedPredicate;
         }
 
+        @Override
+        public Class<? extends ReturnEventExtensionWrapper> getBoundType() {
+
+            return ReturnEventExtensionWrapper.class;
+        }
+
+        @Override
+        public Class<? extends Event> getWrappedBoundType() {
+
+            if (wrappedPredicate instanceof TypeBoundPredicate) {
+                return ((TypeBoundPredicate<?>) wrappedPredicate).getBoundType();
+            } else {
+                return null;
+            }
+        }
+
         @Override
         public boolean test(ReturnEventExtensionWrapper event) {
 
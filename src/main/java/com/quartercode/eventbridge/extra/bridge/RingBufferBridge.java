@@ -0,0 +1,70 @@
+/*
+ * This file is part of EventBridge.
+ * Copyright (c) 2014 QuarterCode <http://www.quartercode.com/>
+ *
+ * EventBridge is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of
+ * the License, or (at your option) any later version.
+ *
+ * EventBridge is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EventBridge. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.quartercode.eventbridge.extra.bridge;
+
+import java.util.concurrent.TimeUnit;
+import com.quartercode.eventbridge.bridge.Bridge;
+import com.quartercode.eventbridge.bridge.BridgeConnector;
+import com.quartercode.eventbridge.bridge.Event;
+import com.quartercode.eventbridge.bridge.module.HandlerModule;
+
+/**
+ * A ring buffer bridge is a {@link Bridge} which handles {@link Event}s on a dedicated consumer thread.
+ * Every call of {@link #handle(Event, BridgeConnector)} claims a slot in a preallocated ring buffer, stores the event in it and returns immediately.
+ * The consumer thread then takes the events out of the buffer in the order they were claimed and runs them through the {@link HandlerModule}.
+ * Since events which are sent to local handlers are also passed to {@link #handle(Event, BridgeConnector)}, the handling of those events is asynchronous as well.<br>
+ * <br>
+ * The ring buffer has a fixed capacity ({@link #getCapacity()}), which means that the memory used by pending events is bounded.
+ * If the buffer is full, the handling thread waits until the consumer thread has freed a slot.
+ * However, events which are handled by the consumer thread itself (e.g. because an event handler sends a new event) are handled synchronously.
+ * Otherwise, the consumer thread could wait for itself.<br>
+ * <br>
+ * Ring buffer bridges must be shut down ({@link #shutdown()}) once they are no longer needed.
+ * 
+ * @see Bridge
+ */
+public interface RingBufferBridge extends Bridge {
+
+    /**
+     * Returns the amount of {@link Event}s the ring buffer can hold at the same time.
+     * This is always a power of two.
+     * 
+     * @return The capacity of the ring buffer.
+     */
+    public int getCapacity();
+
+    /**
+     * Initiates an orderly shutdown of the bridge's consumer thread.
+     * All {@link Event}s which have already been stored in the ring buffer are still handled.
+     * However, any further attempt to handle an event results in an {@link IllegalStateException}.
+     * This method does not wait for the pending events to be handled. Use {@link #awaitTermination(long, TimeUnit)} for that.
+     */
+    public void shutdown();
+
+    /**
+     * Blocks until all pending {@link Event}s have been handled after a {@link #shutdown()} request, or the timeout occurs.
+     * 
+     * @param timeout The maximum time to wait.
+     * @param unit The time unit of the timeout argument.
+     * @return Whether the consumer thread terminated ({@code true}) or the timeout elapsed before ({@code false}).
+     * @throws InterruptedException The current thread is interrupted while waiting.
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException;
+
+}
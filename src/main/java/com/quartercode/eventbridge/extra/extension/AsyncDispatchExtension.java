@@ -0,0 +1,81 @@
+/*
+ * This file is part of EventBridge.
+ * Copyright (c) 2014 QuarterCode <http://www.quartercode.com/>
+ *
+ * EventBridge is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of
+ * the License, or (at your option) any later version.
+ *
+ * EventBridge is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EventBridge. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.quartercode.eventbridge.extra.extension;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import com.quartercode.eventbridge.bridge.Bridge;
+import com.quartercode.eventbridge.bridge.BridgeConnector;
+import com.quartercode.eventbridge.bridge.BridgeModule;
+import com.quartercode.eventbridge.bridge.Event;
+import com.quartercode.eventbridge.bridge.module.EventHandler;
+import com.quartercode.eventbridge.bridge.module.HandlerModule;
+
+/**
+ * The async dispatch extension decouples the producers of {@link Event}s from the latency of the {@link EventHandler}s and {@link BridgeConnector}s.
+ * For doing that, it hands events over to an {@link Executor} which then runs the actual sending or handling process.
+ * That executor might be a thread pool, a single thread which works like an event loop, or any other dispatcher.<br>
+ * <br>
+ * The extension provides the {@link #sendAsync(Event)} method, which sends an event through the bridge on the executor.
+ * Moreover, it hooks into the {@link HandlerModule}'s channel and moves the handling of all events, which are received by a bridge connector, onto the executor.
+ * Note that the order in which events are processed is only retained if the executor runs its tasks in order (e.g. a single thread executor).<br>
+ * <br>
+ * Since the async dispatch extension is a {@link BridgeModule}, it can be added to a bridge as follows:
+ * 
+ * <pre>
+ * Bridge bridge = ...
+ * AsyncDispatchExtension extension = ...
+ * bridge.addModule(extension);
+ * </pre>
+ * 
+ * Please note that the extension also can be removed from a bridge:
+ * 
+ * <pre>
+ * Bridge bridge = ...
+ * AsyncDispatchExtension extension = ...
+ * bridge.addModule(extension);
+ * ...
+ * bridge.removeModule(bridge.getModule(AsyncDispatchExtension.class));
+ * </pre>
+ * 
+ * @see Bridge
+ * @see Event
+ * @see Executor
+ */
+public interface AsyncDispatchExtension extends BridgeModule {
+
+    /**
+     * Returns the {@link Executor} which runs the sending and handling processes of the {@link Event}s that are dispatched by the extension.
+     * 
+     * @return The executor which is used for dispatching events.
+     */
+    public Executor getExecutor();
+
+    /**
+     * Sends the given {@link Event} through the {@link Bridge#send(Event)} method of the extension's bridge.
+     * However, the actual sending process is run by the extension's {@link Executor} ({@link #getExecutor()}), so this method returns immediately.
+     * The returned {@link Future} is completed once the sending process has finished.
+     * If that process threw an exception, the future rethrows it.
+     * 
+     * @param event The event which should be sent asynchronously.
+     * @return A future which is completed once the given event has been sent.
+     */
+    public Future<?> sendAsync(Event event);
+
+}
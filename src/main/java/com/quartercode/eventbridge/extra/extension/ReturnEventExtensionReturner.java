@@ -18,6 +18,7 @@
 
 package com.quartercode.eventbridge.extra.extension;
 
+import java.util.Collection;
 import java.util.Map;
 import com.quartercode.eventbridge.bridge.Bridge;
 import com.quartercode.eventbridge.bridge.BridgeConnector;
@@ -83,6 +84,24 @@ public interface ReturnEventExtensionReturner extends BridgeModule {
      */
     public void removeRequestHandler(RequestEventHandler<?> requestHandler);
 
+    /**
+     * Adds all given {@link RequestEventHandler}s to the return event extension returner at once.
+     * They'll start listening for incoming request {@link Event}s that match their {@link EventPredicate}s.
+     * In contrast to calling {@link #addRequestHandler(RequestEventHandler, EventPredicate)} for every request handler, the request handlers are passed to the low-level handler module as one batch.
+     * 
+     * @param requestHandlers The new request event handlers that should start listening on the return event extension returner, mapped to the event predicates that decide which events pass into them.
+     */
+    public void addRequestHandlers(Map<? extends RequestEventHandler<?>, ? extends EventPredicate<?>> requestHandlers);
+
+    /**
+     * Removes all given {@link RequestEventHandler}s from the return event extension returner at once.
+     * They'll stop listening for incoming request {@link Event}s.
+     * In contrast to calling {@link #removeRequestHandler(RequestEventHandler)} for every request handler, the request handlers are removed from the low-level handler module as one batch.
+     * 
+     * @param requestHandlers The request event handlers that should stop listening on the return event extension returner.
+     */
+    public void removeRequestHandlers(Collection<? extends RequestEventHandler<?>> requestHandlers);
+
     /**
      * Adds the given {@link ModifyRequestHandlerListListener} that is called when a {@link RequestEventHandler} is added or removed.
      * 
@@ -46,10 +46,44 @@ import com.quartercode.eventbridge.bridge.module.EventHandler;
  * bridge.removeModule(bridge.getModule(SendPredicateCheckExtension.class));
  * </pre>
  * 
+ * Local predicate changes are not sent one by one.
+ * Instead, they are collected into a delta in which additions and removals of the same predicate cancel each other out.
+ * Multiple changes can be grouped into a predicate update, whose delta is sent as one event when the update ends:
+ * 
+ * <pre>
+ * extension.beginPredicateUpdate();
+ * try {
+ *     ...
+ * } finally {
+ *     extension.endPredicateUpdate();
+ * }
+ * </pre>
+ * 
  * @see BridgeModule
  * @see Bridge
  * @see BridgeConnector
  */
 public interface SendPredicateCheckExtension extends BridgeModule {
 
+    /**
+     * Begins a new predicate update.
+     * All local predicate changes are collected until the update is ended by {@link #endPredicateUpdate()}.
+     * Predicate updates can be nested; the collected changes are sent when the outermost update ends.
+     */
+    public void beginPredicateUpdate();
+
+    /**
+     * Ends the current predicate update, which was begun by {@link #beginPredicateUpdate()}.
+     * If it is the outermost one, all collected local predicate changes are sent to the other bridges as one event.
+     * 
+     * @throws IllegalStateException No predicate update is in progress.
+     */
+    public void endPredicateUpdate();
+
+    /**
+     * Immediately sends all collected local predicate changes to the other bridges as one event, even if a predicate update is in progress.
+     * If additions and removals of the same predicates cancelled each other out, nothing is sent.
+     */
+    public void flushPredicateUpdates();
+
 }
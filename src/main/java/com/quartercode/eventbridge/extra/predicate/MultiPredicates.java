@@ -69,7 +69,7 @@ public class MultiPredicates {
 
     }
 
-    private static class OrPredicate<T extends Event> extends EventPredicateBase<T> {
+    static class OrPredicate<T extends Event> extends EventPredicateBase<T> {
 
         private static final long                 serialVersionUID = 1410835432952767299L;
 
@@ -80,6 +80,11 @@ public class MultiPredicates {
             this.predicates = predicates;
         }
 
+        EventPredicate<? super T>[] getPredicates() {
+
+            return predicates;
+        }
+
         @Override
         public boolean test(T event) {
 
@@ -94,7 +99,7 @@ public class MultiPredicates {
 
     }
 
-    private static class AndPredicate<T extends Event> extends EventPredicateBase<T> {
+    static class AndPredicate<T extends Event> extends EventPredicateBase<T> {
 
         private static final long                 serialVersionUID = 1131743560690967264L;
 
@@ -105,6 +110,11 @@ public class MultiPredicates {
             this.predicates = predicates;
         }
 
+        EventPredicate<? super T>[] getPredicates() {
+
+            return predicates;
+        }
+
         @Override
         public boolean test(T event) {
 
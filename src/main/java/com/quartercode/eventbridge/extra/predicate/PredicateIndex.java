@@ -0,0 +1,485 @@
+/*
+ * This file is part of EventBridge.
+ * Copyright (c) 2014 QuarterCode <http://www.quartercode.com/>
+ *
+ * EventBridge is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of
+ * the License, or (at your option) any later version.
+ *
+ * EventBridge is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EventBridge. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.quartercode.eventbridge.extra.predicate;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.Validate;
+import com.quartercode.eventbridge.bridge.Event;
+import com.quartercode.eventbridge.bridge.EventPredicate;
+
+/**
+ * A predicate index stores values together with {@link EventPredicate}s and quickly finds the values whose predicates might match an {@link Event} type.
+ * Values whose predicates are {@link TypeBoundPredicate}s are stored in buckets which are indexed by the bound types.
+ * All other values are stored in a residual bucket.
+ * When the candidates for an event type are requested, only the buckets of the event type and its supertypes are visited.
+ * The residual values are candidates for every event type.
+ * Values whose predicates are {@link WrappingTypeBoundPredicate}s are additionally indexed by the bound types of the wrapped events.
+ * They are only returned as candidates for {@link WrappingEvent}s whose wrapped events are instances of those types.
+ * Note that the candidates still need to be tested against the actual event since the index only evaluates the bound types.<br>
+ * <br>
+ * The candidates are always returned in the order in which they were added to the index.
+ * Moreover, predicate indices are thread-safe.
+ * All modifications create a new immutable snapshot of the index, which means that lookups never block and always see a consistent state.
+ * However, the snapshots share most of their structure: Each bucket is a persistent tree which is ordered by the time the values were added.
+ * Therefore, adding or removing a value only takes logarithmic time in the size of its bucket (plus the amount of bound types), even if the index stores a huge amount of values.
+ * Since the buckets are already ordered, the candidates of multiple buckets are merged without sorting them.
+ * 
+ * @param <V> The type of the values which are stored in the index.
+ * @see TypeBoundPredicate
+ * @see WrappingTypeBoundPredicate
+ */
+public class PredicateIndex<V> {
+
+    private static final ClassValue<Class<?>[]> TYPE_HIERARCHIES = new ClassValue<Class<?>[]>() {
+
+        @Override
+        protected Class<?>[] computeValue(Class<?> type) {
+
+            List<Class<?>> hierarchy = new ArrayList<>();
+            hierarchy.add(type);
+            hierarchy.addAll(ClassUtils.getAllSuperclasses(type));
+            hierarchy.addAll(ClassUtils.getAllInterfaces(type));
+            return hierarchy.toArray(new Class<?>[hierarchy.size()]);
+        }
+
+    };
+
+    private volatile Snapshot<V>          snapshot    = new Snapshot<>(new HashMap<Class<?>, Tree<V>>(), new HashMap<Class<?>, Map<Class<?>, Tree<V>>>(), null);
+    // Only accessed by modifications, which are synchronized
+    private final Map<V, Deque<Entry<V>>> occurrences = new HashMap<>();
+    private long                          nextSequence;
+
+    /**
+     * Adds the given value with the given {@link EventPredicate} to the index.
+     * If the predicate is a {@link TypeBoundPredicate}, the value is only returned as candidate for subtypes of the bound type.
+     * If the predicate is a {@link WrappingTypeBoundPredicate}, the value is also only returned if the type of the wrapped event is a subtype of the wrapped bound type.
+     * Note that the same value may be added multiple times.
+     * 
+     * @param value The value which should be added to the index.
+     * @param predicate The predicate which decides which {@link Event}s the value is interested in.
+     */
+    public synchronized void add(V value, EventPredicate<?> predicate) {
+
+        Validate.notNull(value, "Cannot add null value to predicate index");
+
+        Class<?> boundType = null;
+        Class<?> wrappedBoundType = null;
+        if (predicate instanceof TypeBoundPredicate) {
+            boundType = ((TypeBoundPredicate<?>) predicate).getBoundType();
+
+            if (predicate instanceof WrappingTypeBoundPredicate) {
+                wrappedBoundType = ((WrappingTypeBoundPredicate<?>) predicate).getWrappedBoundType();
+            }
+        }
+
+        Entry<V> entry = new Entry<>(value, boundType, wrappedBoundType, nextSequence++);
+
+        Deque<Entry<V>> valueOccurrences = occurrences.get(value);
+        if (valueOccurrences == null) {
+            valueOccurrences = new ArrayDeque<>(1);
+            occurrences.put(value, valueOccurrences);
+        }
+        valueOccurrences.add(entry);
+
+        snapshot = snapshot.with(entry);
+    }
+
+    /**
+     * Removes the first occurrence of the given value from the index.
+     * The value is compared using {@link Object#equals(Object)} and {@link Object#hashCode()}.
+     * 
+     * @param value The value which should be removed from the index.
+     * @return Whether the given value was stored in the index.
+     */
+    public synchronized boolean remove(V value) {
+
+        Deque<Entry<V>> valueOccurrences = occurrences.get(value);
+        if (valueOccurrences == null) {
+            return false;
+        }
+
+        // The occurrences are stored in the order in which they were added
+        Entry<V> removed = valueOccurrences.poll();
+        if (valueOccurrences.isEmpty()) {
+            occurrences.remove(value);
+        }
+
+        snapshot = snapshot.without(removed);
+        return true;
+    }
+
+    /**
+     * Returns whether the given value is stored in the index at least once.
+     * The value is compared using {@link Object#equals(Object)} and {@link Object#hashCode()}.
+     * 
+     * @param value The value which should be looked up.
+     * @return Whether the given value is stored in the index.
+     */
+    public synchronized boolean contains(V value) {
+
+        return occurrences.containsKey(value);
+    }
+
+    /**
+     * Returns all values which are stored in the index, regardless of their {@link EventPredicate}s.
+     * The values are returned in the order in which they were added to the index.
+     * The returned list is an unmodifiable snapshot which doesn't change when the index is modified.
+     * 
+     * @return All values of the index.
+     */
+    public List<V> getValues() {
+
+        return snapshot.getValues();
+    }
+
+    /**
+     * Returns all values whose {@link EventPredicate}s might match {@link Event}s of the given type.
+     * Since the type of a wrapped event is unknown, the values of all {@link WrappingTypeBoundPredicate}s whose bound types match the given type are returned as well.
+     * The values are returned in the order in which they were added to the index.
+     * 
+     * @param eventType The type of the event the candidates should be looked up for.
+     * @return The candidate values for the given event type.
+     */
+    public List<V> getCandidates(Class<? extends Event> eventType) {
+
+        return getCandidates(eventType, null);
+    }
+
+    /**
+     * Returns all values whose {@link EventPredicate}s might match {@link WrappingEvent}s of the given type which wrap around {@link Event}s of the given wrapped type.
+     * If the wrapped type is {@code null}, this method returns the same candidates as {@link #getCandidates(Class)}.
+     * The values are returned in the order in which they were added to the index.
+     * 
+     * @param eventType The type of the event the candidates should be looked up for.
+     * @param wrappedEventType The type of the event which is wrapped by the looked up event, or {@code null} if it is unknown.
+     * @return The candidate values for the given event types.
+     */
+    public List<V> getCandidates(Class<? extends Event> eventType, Class<? extends Event> wrappedEventType) {
+
+        Snapshot<V> snapshot = this.snapshot;
+        Merger<V> merger = new Merger<>();
+
+        merger.add(snapshot.residual);
+
+        if (!snapshot.buckets.isEmpty() || !snapshot.wrappedBuckets.isEmpty()) {
+            for (Class<?> type : TYPE_HIERARCHIES.get(eventType)) {
+                merger.add(snapshot.buckets.get(type));
+
+                Map<Class<?>, Tree<V>> wrappedBuckets = snapshot.wrappedBuckets.get(type);
+                if (wrappedBuckets == null) {
+                    continue;
+                } else if (wrappedEventType == null) {
+                    for (Tree<V> bucket : wrappedBuckets.values()) {
+                        merger.add(bucket);
+                    }
+                } else {
+                    for (Class<?> wrappedType : TYPE_HIERARCHIES.get(wrappedEventType)) {
+                        merger.add(wrappedBuckets.get(wrappedType));
+                    }
+                }
+            }
+        }
+
+        return merger.toValues();
+    }
+
+    private static class Snapshot<V> {
+
+        private final Map<Class<?>, Tree<V>>                 buckets;
+        // Indexed by the bound types first and by the wrapped bound types second
+        private final Map<Class<?>, Map<Class<?>, Tree<V>>> wrappedBuckets;
+        // Null if there are no residual values
+        private final Tree<V>                                residual;
+        // Lazily computed; racing computations produce equal lists
+        private volatile List<V>                             values;
+
+        private Snapshot(Map<Class<?>, Tree<V>> buckets, Map<Class<?>, Map<Class<?>, Tree<V>>> wrappedBuckets, Tree<V> residual) {
+
+            this.buckets = buckets;
+            this.wrappedBuckets = wrappedBuckets;
+            this.residual = residual;
+        }
+
+        private Snapshot<V> with(Entry<V> entry) {
+
+            if (entry.boundType == null) {
+                return new Snapshot<>(buckets, wrappedBuckets, Tree.append(residual, entry));
+            } else if (entry.wrappedBoundType == null) {
+                Tree<V> bucket = Tree.append(buckets.get(entry.boundType), entry);
+                return new Snapshot<>(withBucket(buckets, entry.boundType, bucket), wrappedBuckets, residual);
+            } else {
+                Tree<V> bucket = Tree.append(getWrappedBucket(entry), entry);
+                return new Snapshot<>(buckets, withWrappedBucket(entry, bucket), residual);
+            }
+        }
+
+        private Snapshot<V> without(Entry<V> entry) {
+
+            if (entry.boundType == null) {
+                return new Snapshot<>(buckets, wrappedBuckets, Tree.remove(residual, entry));
+            } else if (entry.wrappedBoundType == null) {
+                Tree<V> bucket = Tree.remove(buckets.get(entry.boundType), entry);
+                return new Snapshot<>(withBucket(buckets, entry.boundType, bucket), wrappedBuckets, residual);
+            } else {
+                Tree<V> bucket = Tree.remove(getWrappedBucket(entry), entry);
+                return new Snapshot<>(buckets, withWrappedBucket(entry, bucket), residual);
+            }
+        }
+
+        private Tree<V> getWrappedBucket(Entry<V> entry) {
+
+            Map<Class<?>, Tree<V>> typeBuckets = wrappedBuckets.get(entry.boundType);
+            return typeBuckets == null ? null : typeBuckets.get(entry.wrappedBoundType);
+        }
+
+        private Map<Class<?>, Map<Class<?>, Tree<V>>> withWrappedBucket(Entry<V> entry, Tree<V> bucket) {
+
+            Map<Class<?>, Tree<V>> typeBuckets = withBucket(wrappedBuckets.get(entry.boundType), entry.wrappedBoundType, bucket);
+
+            Map<Class<?>, Map<Class<?>, Tree<V>>> newWrappedBuckets = new HashMap<>(wrappedBuckets);
+            if (typeBuckets.isEmpty()) {
+                newWrappedBuckets.remove(entry.boundType);
+            } else {
+                newWrappedBuckets.put(entry.boundType, typeBuckets);
+            }
+            return newWrappedBuckets;
+        }
+
+        // Returns a copy of the given buckets (which may be null) in which the bucket of the given type is replaced; a null bucket is removed
+        private static <V> Map<Class<?>, Tree<V>> withBucket(Map<Class<?>, Tree<V>> buckets, Class<?> type, Tree<V> bucket) {
+
+            Map<Class<?>, Tree<V>> newBuckets = buckets == null ? new HashMap<Class<?>, Tree<V>>() : new HashMap<>(buckets);
+            if (bucket == null) {
+                newBuckets.remove(type);
+            } else {
+                newBuckets.put(type, bucket);
+            }
+            return newBuckets;
+        }
+
+        private List<V> getValues() {
+
+            if (values == null) {
+                Merger<V> merger = new Merger<>();
+                for (Tree<V> bucket : buckets.values()) {
+                    merger.add(bucket);
+                }
+                for (Map<Class<?>, Tree<V>> typeBuckets : wrappedBuckets.values()) {
+                    for (Tree<V> bucket : typeBuckets.values()) {
+                        merger.add(bucket);
+                    }
+                }
+                merger.add(residual);
+
+                values = Collections.unmodifiableList(merger.toValues());
+            }
+
+            return values;
+        }
+
+    }
+
+    private static class Entry<V> {
+
+        private final V        value;
+        private final Class<?> boundType;
+        private final Class<?> wrappedBoundType;
+        private final long     sequence;
+        // Pseudo-random priority for the tree, derived from the sequence (finalizer of the SplitMix64 generator)
+        private final long     priority;
+
+        private Entry(V value, Class<?> boundType, Class<?> wrappedBoundType, long sequence) {
+
+            this.value = value;
+            this.boundType = boundType;
+            this.wrappedBoundType = wrappedBoundType;
+            this.sequence = sequence;
+
+            long mixed = (sequence ^ sequence >>> 30) * 0xBF58476D1CE4E5B9L;
+            mixed = (mixed ^ mixed >>> 27) * 0x94D049BB133111EBL;
+            priority = mixed ^ mixed >>> 31;
+        }
+
+    }
+
+    // A persistent treap which is ordered by the sequences of its entries; modifications copy the path to the modified node
+    // Since the priorities are pseudo-random, the expected depth is logarithmic even though new entries are always appended
+    private static class Tree<V> {
+
+        private final Entry<V> entry;
+        private final Tree<V>  left;
+        private final Tree<V>  right;
+        private final int      size;
+
+        private Tree(Entry<V> entry, Tree<V> left, Tree<V> right) {
+
+            this.entry = entry;
+            this.left = left;
+            this.right = right;
+
+            size = 1 + (left == null ? 0 : left.size) + (right == null ? 0 : right.size);
+        }
+
+        // The sequence of the appended entry must be greater than all sequences in the tree
+        private static <V> Tree<V> append(Tree<V> tree, Entry<V> entry) {
+
+            return merge(tree, new Tree<>(entry, null, null));
+        }
+
+        // Returns null if the tree becomes empty
+        private static <V> Tree<V> remove(Tree<V> tree, Entry<V> entry) {
+
+            if (tree == null) {
+                return null;
+            } else if (tree.entry == entry) {
+                return merge(tree.left, tree.right);
+            } else if (entry.sequence < tree.entry.sequence) {
+                return new Tree<>(tree.entry, remove(tree.left, entry), tree.right);
+            } else {
+                return new Tree<>(tree.entry, tree.left, remove(tree.right, entry));
+            }
+        }
+
+        // All sequences in the left tree must be smaller than the ones in the right tree
+        private static <V> Tree<V> merge(Tree<V> left, Tree<V> right) {
+
+            if (left == null) {
+                return right;
+            } else if (right == null) {
+                return left;
+            } else if (left.entry.priority >= right.entry.priority) {
+                return new Tree<>(left.entry, left.left, merge(left.right, right));
+            } else {
+                return new Tree<>(right.entry, merge(left, right.left), right.right);
+            }
+        }
+
+        private void collect(List<V> values) {
+
+            if (left != null) {
+                left.collect(values);
+            }
+
+            values.add(entry.value);
+
+            if (right != null) {
+                right.collect(values);
+            }
+        }
+
+    }
+
+    // Merges multiple trees into one list of values which is ordered by the sequences of the entries
+    private static class Merger<V> {
+
+        private Tree<V>         first;
+        // Only created if there is more than one tree
+        private List<Cursor<V>> cursors;
+        private int             size;
+
+        private void add(Tree<V> tree) {
+
+            if (tree == null) {
+                return;
+            } else if (first == null) {
+                first = tree;
+            } else {
+                if (cursors == null) {
+                    cursors = new ArrayList<>();
+                    cursors.add(new Cursor<>(first));
+                }
+                cursors.add(new Cursor<>(tree));
+            }
+
+            size += tree.size;
+        }
+
+        private List<V> toValues() {
+
+            List<V> values = new ArrayList<>(size);
+
+            if (cursors == null) {
+                if (first != null) {
+                    first.collect(values);
+                }
+            } else {
+                // Each tree is already ordered, so the next value is always the lowest current entry of all cursors
+                // There are only a few trees (one per bound type in the hierarchy), which makes a linear scan cheaper than a heap
+                for (int remaining = size; remaining > 0; remaining--) {
+                    Cursor<V> next = null;
+                    for (int index = 0; index < cursors.size(); index++) {
+                        Cursor<V> cursor = cursors.get(index);
+                        if (cursor.current != null && (next == null || cursor.current.sequence < next.current.sequence)) {
+                            next = cursor;
+                        }
+                    }
+
+                    values.add(next.current.value);
+                    next.advance();
+                }
+            }
+
+            return values;
+        }
+
+    }
+
+    // Iterates over the entries of a tree in the order of their sequences
+    private static class Cursor<V> {
+
+        // The nodes whose entries and right subtrees haven't been visited yet
+        private final Deque<Tree<V>> path = new ArrayDeque<>();
+        // Null if all entries have been visited
+        private Entry<V>             current;
+
+        private Cursor(Tree<V> tree) {
+
+            descend(tree);
+            advance();
+        }
+
+        private void advance() {
+
+            if (path.isEmpty()) {
+                current = null;
+            } else {
+                Tree<V> tree = path.pop();
+                current = tree.entry;
+                descend(tree.right);
+            }
+        }
+
+        private void descend(Tree<V> tree) {
+
+            while (tree != null) {
+                path.push(tree);
+                tree = tree.left;
+            }
+        }
+
+    }
+
+}
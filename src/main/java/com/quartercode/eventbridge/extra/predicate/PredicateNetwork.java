@@ -0,0 +1,798 @@
+/*
+ * This file is part of EventBridge.
+ * Copyright (c) 2014 QuarterCode <http://www.quartercode.com/>
+ *
+ * EventBridge is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of
+ * the License, or (at your option) any later version.
+ *
+ * EventBridge is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EventBridge. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.quartercode.eventbridge.extra.predicate;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.lang3.Validate;
+import com.quartercode.eventbridge.basic.EventUtils;
+import com.quartercode.eventbridge.bridge.Event;
+import com.quartercode.eventbridge.bridge.EventPredicate;
+import com.quartercode.eventbridge.extra.predicate.MultiPredicates.AndPredicate;
+import com.quartercode.eventbridge.extra.predicate.MultiPredicates.OrPredicate;
+
+/**
+ * A predicate network stores values together with {@link EventPredicate}s and finds all values whose predicates match an {@link Event}.
+ * For doing that, all predicates are compiled into a shared network of test nodes.
+ * Equal predicates share the same node, and the {@code OR}- and {@code AND}-linkings of {@link MultiPredicates} are split up into their child predicates.
+ * That way, every distinct predicate is tested at most once per event, even if it is used by a lot of values or inside a lot of multi predicates.
+ * Moreover, the values are preselected with a {@link PredicateIndex}, which means that {@link TypeBoundPredicate}s of other types are not tested at all.
+ * For {@link WrappingEvent}s, the index also takes the type of the wrapped event into account ({@link WrappingTypeBoundPredicate}).<br>
+ * <br>
+ * The network evaluates the predicates in the same way as {@link EventPredicate#test(Event)} and {@code EventUtils.tryTest()} would do.
+ * That includes that a predicate is {@code false} if the event type doesn't match the generic parameter of the predicate.
+ * The matching values are always returned in the order in which they were added.
+ * Predicate networks are thread-safe. Modifications are synchronized, while lookups never block.
+ * Adding or removing a value doesn't require the network to look at all the other values, which keeps the network usable for huge amounts of values.<br>
+ * <br>
+ * Optionally, a class cache can be enabled ({@link #setClassCacheEnabled(boolean)}).
+ * It remembers the results of all predicates which only depend on the event class ({@link TypePredicate}s and multi predicates which only contain those).
+ * Therefore, if all predicates only depend on the event class, a lookup is reduced to one map lookup (two for wrapping events, which are cached per wrapped event class as well).
+ * All other predicates are still tested for every event.
+ * The cache is invalidated whenever a value is added or removed.
+ * If the class cache counters are enabled ({@link #setClassCacheCountersEnabled(boolean)}), the network also counts the cache hits and misses.
+ * 
+ * @param <V> The type of the values which are stored in the network.
+ * @see PredicateIndex
+ */
+public class PredicateNetwork<V> {
+
+    private static final byte                  TRUE             = 1;
+    private static final byte                  FALSE            = 2;
+    // The event type doesn't match the generic parameter of the predicate
+    private static final byte                  INVALID          = 3;
+
+    private final PredicateIndex<Entry<V>>     index            = new PredicateIndex<>();
+    // Only accessed by modifications, which are synchronized
+    private final Map<V, Deque<Entry<V>>>      occurrences      = new HashMap<>();
+    private volatile Values<V>                 valuesCache;
+    private final Map<EventPredicate<?>, Node> nodes            = new HashMap<>();
+    private final Deque<Integer>               freeIds          = new ArrayDeque<>();
+    private volatile int                       nextId;
+    // Lookups store the results of the nodes in a memo which is reused by all lookups of the same thread
+    private final ThreadLocal<Memo>            memos            = new ThreadLocal<Memo>() {
+
+        @Override
+        protected Memo initialValue() {
+
+            return new Memo();
+        }
+
+    };
+
+    private volatile boolean                   classCacheEnabled;
+    private volatile ClassCache<V>             classCache       = new ClassCache<>();
+    // The counters are only updated if they are enabled since all lookups would contend for them
+    private volatile boolean                   classCacheCountersEnabled;
+    private final AtomicLong                   classCacheHits   = new AtomicLong();
+    private final AtomicLong                   classCacheMisses = new AtomicLong();
+
+    /**
+     * Adds the given value with the given {@link EventPredicate} to the network.
+     * Note that the same value may be added multiple times.
+     * 
+     * @param value The value which should be added to the network.
+     * @param predicate The predicate which decides which {@link Event}s match the value.
+     */
+    public synchronized void add(V value, EventPredicate<?> predicate) {
+
+        Validate.notNull(value, "Cannot add null value to predicate network");
+        Validate.notNull(predicate, "Cannot add value with null predicate to predicate network");
+
+        Entry<V> entry = new Entry<>(value, acquire(predicate));
+        index.add(entry, predicate);
+
+        Deque<Entry<V>> valueOccurrences = occurrences.get(value);
+        if (valueOccurrences == null) {
+            valueOccurrences = new ArrayDeque<>(1);
+            occurrences.put(value, valueOccurrences);
+        }
+        valueOccurrences.add(entry);
+
+        invalidateClassCache();
+    }
+
+    /**
+     * Removes the first occurrence of the given value from the network.
+     * The value is compared using {@link Object#equals(Object)} and {@link Object#hashCode()}.
+     * 
+     * @param value The value which should be removed from the network.
+     * @return Whether the given value was stored in the network.
+     */
+    public synchronized boolean remove(V value) {
+
+        Deque<Entry<V>> valueOccurrences = occurrences.get(value);
+        if (valueOccurrences == null) {
+            return false;
+        }
+
+        // The occurrences are stored in the order in which they were added
+        Entry<V> entry = valueOccurrences.poll();
+        if (valueOccurrences.isEmpty()) {
+            occurrences.remove(value);
+        }
+
+        index.remove(entry);
+        release(entry.root);
+
+        invalidateClassCache();
+        return true;
+    }
+
+    /**
+     * Returns whether the given value is stored in the network at least once.
+     * The value is compared using {@link Object#equals(Object)} and {@link Object#hashCode()}.
+     * 
+     * @param value The value which should be looked up.
+     * @return Whether the given value is stored in the network.
+     */
+    public synchronized boolean contains(V value) {
+
+        return occurrences.containsKey(value);
+    }
+
+    /**
+     * Returns whether the network doesn't contain any values.
+     * 
+     * @return Whether the network is empty.
+     */
+    public synchronized boolean isEmpty() {
+
+        return occurrences.isEmpty();
+    }
+
+    /**
+     * Returns all values which are stored in the network, regardless of their {@link EventPredicate}s.
+     * The values are returned in the order in which they were added to the network.
+     * The returned list is an unmodifiable snapshot which doesn't change when the network is modified.
+     * 
+     * @return All values of the network.
+     */
+    public List<V> getValues() {
+
+        List<Entry<V>> entries = index.getValues();
+
+        // The index returns the same list as long as it isn't modified
+        Values<V> values = valuesCache;
+        if (values == null || values.entries != entries) {
+            List<V> valueList = new ArrayList<>(entries.size());
+            for (Entry<V> entry : entries) {
+                valueList.add(entry.value);
+            }
+
+            values = new Values<>(entries, Collections.unmodifiableList(valueList));
+            valuesCache = values;
+        }
+
+        return values.values;
+    }
+
+    /**
+     * Returns whether the class cache is enabled.
+     * See {@link #setClassCacheEnabled(boolean)} for more details.
+     * 
+     * @return Whether the class cache is used.
+     */
+    public boolean isClassCacheEnabled() {
+
+        return classCacheEnabled;
+    }
+
+    /**
+     * Enables or disables the class cache, which remembers the results of all predicates that only depend on the {@link Event} class.
+     * It is disabled by default.
+     * Disabling the cache also clears it.
+     * 
+     * @param classCacheEnabled Whether the class cache should be used.
+     */
+    public void setClassCacheEnabled(boolean classCacheEnabled) {
+
+        this.classCacheEnabled = classCacheEnabled;
+        invalidateClassCache();
+    }
+
+    /**
+     * Returns whether the class cache hits and misses are counted.
+     * See {@link #setClassCacheCountersEnabled(boolean)} for more details.
+     * 
+     * @return Whether the class cache counters are updated.
+     */
+    public boolean isClassCacheCountersEnabled() {
+
+        return classCacheCountersEnabled;
+    }
+
+    /**
+     * Enables or disables the counting of class cache hits and misses ({@link #getClassCacheHits()} and {@link #getClassCacheMisses()}).
+     * Since all threads which perform lookups update the same counters, they should only be enabled if someone actually reads them.
+     * They are disabled by default.
+     * Disabling the counters doesn't reset them.
+     * 
+     * @param classCacheCountersEnabled Whether the class cache hits and misses should be counted.
+     */
+    public void setClassCacheCountersEnabled(boolean classCacheCountersEnabled) {
+
+        this.classCacheCountersEnabled = classCacheCountersEnabled;
+    }
+
+    /**
+     * Returns how many lookups could be answered by the class cache while the class cache counters were enabled.
+     * 
+     * @return The amount of class cache hits.
+     * @see #setClassCacheCountersEnabled(boolean)
+     */
+    public long getClassCacheHits() {
+
+        return classCacheHits.get();
+    }
+
+    /**
+     * Returns how many lookups couldn't be answered by the class cache while the class cache counters were enabled.
+     * Lookups which are performed while the cache is disabled are not counted.
+     * 
+     * @return The amount of class cache misses.
+     * @see #setClassCacheCountersEnabled(boolean)
+     */
+    public long getClassCacheMisses() {
+
+        return classCacheMisses.get();
+    }
+
+    private void invalidateClassCache() {
+
+        // The cache must be replaced after the index has been modified; lookups read the cache before the index
+        classCache = new ClassCache<>();
+    }
+
+    /**
+     * Returns all values whose {@link EventPredicate}s match the given {@link Event}.
+     * The values are returned in the order in which they were added to the network.
+     * 
+     * @param event The event the predicates should test.
+     * @return The values whose predicates match the given event.
+     */
+    public List<V> getMatches(Event event) {
+
+        if (!classCacheEnabled) {
+            return getMatches(index.getCandidates(event.getClass(), getWrappedType(event)), event);
+        } else {
+            return getMatches(getPlan(event), event);
+        }
+    }
+
+    /**
+     * Returns the matching values for each of the given {@link Event}s, in the order of the events.
+     * The result is the same as calling {@link #getMatches(Event)} for every event.
+     * However, successive events of the same class share their lookup in the index or the class cache.
+     * 
+     * @param events The events the predicates should test.
+     * @return One list of matching values for each of the given events.
+     */
+    public List<List<V>> getMatches(List<? extends Event> events) {
+
+        List<List<V>> matches = new ArrayList<>(events.size());
+
+        boolean classCacheEnabled = this.classCacheEnabled;
+        Class<?> lookupType = null;
+        Class<?> lookupWrappedType = null;
+        List<Entry<V>> candidates = null;
+        Plan<V> plan = null;
+
+        for (Event event : events) {
+            Class<? extends Event> wrappedType = getWrappedType(event);
+
+            if (event.getClass() != lookupType || wrappedType != lookupWrappedType) {
+                lookupType = event.getClass();
+                lookupWrappedType = wrappedType;
+
+                if (classCacheEnabled) {
+                    plan = getPlan(event);
+                } else {
+                    candidates = index.getCandidates(event.getClass(), wrappedType);
+                }
+            } else if (classCacheEnabled && classCacheCountersEnabled) {
+                // The shared plan counts as a cache hit
+                classCacheHits.incrementAndGet();
+            }
+
+            matches.add(classCacheEnabled ? getMatches(plan, event) : getMatches(candidates, event));
+        }
+
+        return matches;
+    }
+
+    private List<V> getMatches(List<Entry<V>> candidates, Event event) {
+
+        if (candidates.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<V> matches = new ArrayList<>();
+        Memo memo = beginLookup();
+        try {
+            for (Entry<V> candidate : candidates) {
+                if (candidate.root.evaluate(event, memo) == TRUE) {
+                    matches.add(candidate.value);
+                }
+            }
+        } finally {
+            memo.end();
+        }
+
+        return matches;
+    }
+
+    private List<V> getMatches(Plan<V> plan, Event event) {
+
+        if (plan.dynamicSteps == 0) {
+            return plan.staticMatches;
+        }
+
+        List<V> matches = new ArrayList<>(plan.steps.length);
+        Memo memo = beginLookup();
+        try {
+            for (Object step : plan.steps) {
+                if (step instanceof Entry) {
+                    @SuppressWarnings ("unchecked")
+                    Entry<V> entry = (Entry<V>) step;
+                    if (entry.root.evaluate(event, memo) == TRUE) {
+                        matches.add(entry.value);
+                    }
+                } else {
+                    @SuppressWarnings ("unchecked")
+                    V value = (V) step;
+                    matches.add(value);
+                }
+            }
+        } finally {
+            memo.end();
+        }
+
+        return matches;
+    }
+
+    /**
+     * Returns whether at least one of the stored {@link EventPredicate}s matches the given {@link Event}.
+     * This method stops testing the remaining predicates as soon as a matching one is found.
+     * 
+     * @param event The event the predicates should test.
+     * @return Whether any predicate matches the given event.
+     */
+    public boolean matchesAny(Event event) {
+
+        if (!classCacheEnabled) {
+            List<Entry<V>> candidates = index.getCandidates(event.getClass(), getWrappedType(event));
+            if (candidates.isEmpty()) {
+                return false;
+            }
+
+            Memo memo = beginLookup();
+            try {
+                for (Entry<V> candidate : candidates) {
+                    if (candidate.root.evaluate(event, memo) == TRUE) {
+                        return true;
+                    }
+                }
+            } finally {
+                memo.end();
+            }
+
+            return false;
+        }
+
+        Plan<V> plan = getPlan(event);
+
+        if (!plan.staticMatches.isEmpty()) {
+            return true;
+        } else if (plan.steps.length == 0) {
+            return false;
+        }
+
+        Memo memo = beginLookup();
+        try {
+            for (Object step : plan.steps) {
+                // All steps are dynamic since there are no static matches
+                if ( ((Entry<?>) step).root.evaluate(event, memo) == TRUE) {
+                    return true;
+                }
+            }
+        } finally {
+            memo.end();
+        }
+
+        return false;
+    }
+
+    // Must be called after the candidates have been retrieved; the ids of all nodes which are reachable from them are lower than the current id limit
+    private Memo beginLookup() {
+
+        Memo memo = memos.get();
+
+        // A predicate might perform another lookup while it is tested
+        if (memo.inUse) {
+            memo = new Memo();
+        }
+
+        memo.begin(nextId);
+        return memo;
+    }
+
+    private Plan<V> getPlan(Event event) {
+
+        // The cache must be read before the index, see invalidateClassCache()
+        ClassCache<V> cache = classCache;
+        Class<? extends Event> wrappedType = getWrappedType(event);
+
+        Map<Class<?>, Plan<V>> plans;
+        Class<?> key;
+        if (wrappedType == null) {
+            plans = cache.plans;
+            key = event.getClass();
+        } else {
+            plans = cache.getWrappedPlans(event.getClass());
+            key = wrappedType;
+        }
+
+        Plan<V> plan = plans.get(key);
+
+        if (plan == null) {
+            if (classCacheCountersEnabled) {
+                classCacheMisses.incrementAndGet();
+            }
+
+            List<Entry<V>> candidates = index.getCandidates(event.getClass(), wrappedType);
+            Memo memo = beginLookup();
+            try {
+                plan = new Plan<>(candidates, event, memo);
+            } finally {
+                memo.end();
+            }
+            plans.put(key, plan);
+        } else if (classCacheCountersEnabled) {
+            classCacheHits.incrementAndGet();
+        }
+
+        return plan;
+    }
+
+    private static Class<? extends Event> getWrappedType(Event event) {
+
+        if (event instanceof WrappingEvent) {
+            Event wrappedEvent = ((WrappingEvent) event).getWrappedEvent();
+            if (wrappedEvent != null) {
+                return wrappedEvent.getClass();
+            }
+        }
+
+        return null;
+    }
+
+    private Node acquire(EventPredicate<?> predicate) {
+
+        Node node = nodes.get(predicate);
+
+        if (node == null) {
+            if (predicate instanceof OrPredicate) {
+                node = new OrNode(nextId(), predicate, acquireAll( ((OrPredicate<?>) predicate).getPredicates()));
+            } else if (predicate instanceof AndPredicate) {
+                node = new AndNode(nextId(), predicate, acquireAll( ((AndPredicate<?>) predicate).getPredicates()));
+            } else {
+                node = new TestNode(nextId(), predicate);
+            }
+
+            nodes.put(predicate, node);
+        }
+
+        node.references++;
+        return node;
+    }
+
+    private Node[] acquireAll(EventPredicate<?>[] predicates) {
+
+        Node[] children = new Node[predicates.length];
+        for (int index = 0; index < predicates.length; index++) {
+            children[index] = acquire(predicates[index]);
+        }
+
+        return children;
+    }
+
+    private int nextId() {
+
+        return freeIds.isEmpty() ? nextId++ : freeIds.pop();
+    }
+
+    private void release(Node node) {
+
+        node.references--;
+
+        if (node.references == 0) {
+            nodes.remove(node.predicate);
+            freeIds.push(node.id);
+
+            if (node instanceof MultiNode) {
+                for (Node child : ((MultiNode) node).children) {
+                    release(child);
+                }
+            }
+        }
+    }
+
+    // The class cache is replaced as a whole when it is invalidated
+    private static class ClassCache<V> {
+
+        private final ConcurrentMap<Class<?>, Plan<V>>                         plans        = new ConcurrentHashMap<>();
+        // The plans of wrapping events, indexed by the event classes first and by the wrapped event classes second
+        private final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, Plan<V>>> wrappedPlans = new ConcurrentHashMap<>();
+
+        private ConcurrentMap<Class<?>, Plan<V>> getWrappedPlans(Class<?> eventType) {
+
+            ConcurrentMap<Class<?>, Plan<V>> eventPlans = wrappedPlans.get(eventType);
+
+            if (eventPlans == null) {
+                eventPlans = new ConcurrentHashMap<>();
+                ConcurrentMap<Class<?>, Plan<V>> racingPlans = wrappedPlans.putIfAbsent(eventType, eventPlans);
+                if (racingPlans != null) {
+                    eventPlans = racingPlans;
+                }
+            }
+
+            return eventPlans;
+        }
+
+    }
+
+    // A plan contains one step for every candidate of an event class.
+    // Candidates whose predicates only depend on the event class are already evaluated.
+    // Matching ones are stored as plain values, while non-matching ones are left out.
+    // All other steps are entries which must be evaluated for every event.
+    private static class Plan<V> {
+
+        private final Object[] steps;
+        private final int      dynamicSteps;
+        private final List<V>  staticMatches;
+
+        private Plan(List<Entry<V>> candidates, Event event, Memo memo) {
+
+            List<Object> steps = new ArrayList<>(candidates.size());
+            List<V> staticMatches = new ArrayList<>();
+            int dynamicSteps = 0;
+
+            for (Entry<V> candidate : candidates) {
+                if (!candidate.root.classDetermined) {
+                    steps.add(candidate);
+                    dynamicSteps++;
+                } else if (candidate.root.evaluate(event, memo) == TRUE) {
+                    steps.add(candidate.value);
+                    staticMatches.add(candidate.value);
+                }
+            }
+
+            this.steps = steps.toArray();
+            this.dynamicSteps = dynamicSteps;
+            this.staticMatches = Collections.unmodifiableList(staticMatches);
+        }
+
+    }
+
+    // Stores the results of the nodes during one lookup
+    // Instead of clearing the results, every lookup increments the epoch; a result is only valid if its stamp equals the current epoch
+    private static class Memo {
+
+        private int[]   stamps  = new int[0];
+        private byte[]  results = new byte[0];
+        private int     epoch;
+        private boolean inUse;
+
+        private void begin(int size) {
+
+            if (stamps.length < size) {
+                int newSize = Math.max(size, stamps.length * 2);
+                stamps = new int[newSize];
+                results = new byte[newSize];
+                epoch = 0;
+            }
+
+            epoch++;
+            if (epoch == 0) {
+                // The epoch overflowed, so old stamps might become valid again
+                Arrays.fill(stamps, 0);
+                epoch = 1;
+            }
+
+            inUse = true;
+        }
+
+        private void end() {
+
+            inUse = false;
+        }
+
+    }
+
+    private static class Values<V> {
+
+        private final List<Entry<V>> entries;
+        private final List<V>        values;
+
+        private Values(List<Entry<V>> entries, List<V> values) {
+
+            this.entries = entries;
+            this.values = values;
+        }
+
+    }
+
+    private static class Entry<V> {
+
+        private final V    value;
+        private final Node root;
+
+        private Entry(V value, Node root) {
+
+            this.value = value;
+            this.root = root;
+        }
+
+    }
+
+    private static abstract class Node {
+
+        private final int               id;
+        private final EventPredicate<?> predicate;
+        // Whether the result only depends on the event class
+        private final boolean           classDetermined;
+        // Only accessed by modifications, which are synchronized
+        private int                     references;
+
+        private Node(int id, EventPredicate<?> predicate, boolean classDetermined) {
+
+            this.id = id;
+            this.predicate = predicate;
+            this.classDetermined = classDetermined;
+        }
+
+        byte evaluate(Event event, Memo memo) {
+
+            if (memo.stamps[id] != memo.epoch) {
+                memo.results[id] = compute(event, memo);
+                memo.stamps[id] = memo.epoch;
+            }
+
+            return memo.results[id];
+        }
+
+        abstract byte compute(Event event, Memo memo);
+
+    }
+
+    private static class TestNode extends Node {
+
+        private final Class<? extends Event> eventType;
+
+        private TestNode(int id, EventPredicate<?> predicate) {
+
+            // Subclasses of the type predicate might test more than the event class
+            super(id, predicate, predicate.getClass() == TypePredicate.class);
+
+            eventType = EventUtils.getEventType(predicate);
+        }
+
+        @Override
+        byte compute(Event event, Memo memo) {
+
+            // Avoid the expensive exception if the event type is known to be wrong
+            if (!eventType.isInstance(event)) {
+                return INVALID;
+            }
+
+            return test(super.predicate, event);
+        }
+
+        private static <T extends Event> byte test(EventPredicate<T> predicate, Event event) {
+
+            try {
+                @SuppressWarnings ("unchecked")
+                T castedEvent = (T) event;
+                return predicate.test(castedEvent) ? TRUE : FALSE;
+            } catch (ClassCastException e) {
+                return INVALID;
+            }
+        }
+
+    }
+
+    private static abstract class MultiNode extends Node {
+
+        private final Node[] children;
+
+        private MultiNode(int id, EventPredicate<?> predicate, Node[] children) {
+
+            super(id, predicate, isClassDetermined(children));
+
+            this.children = children;
+        }
+
+        private static boolean isClassDetermined(Node[] children) {
+
+            for (Node child : children) {
+                if (!child.classDetermined) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+    }
+
+    private static class OrNode extends MultiNode {
+
+        private OrNode(int id, EventPredicate<?> predicate, Node[] children) {
+
+            super(id, predicate, children);
+        }
+
+        @Override
+        byte compute(Event event, Memo memo) {
+
+            for (Node child : super.children) {
+                byte result = child.evaluate(event, memo);
+                if (result != FALSE) {
+                    return result;
+                }
+            }
+
+            return FALSE;
+        }
+
+    }
+
+    private static class AndNode extends MultiNode {
+
+        private AndNode(int id, EventPredicate<?> predicate, Node[] children) {
+
+            super(id, predicate, children);
+        }
+
+        @Override
+        byte compute(Event event, Memo memo) {
+
+            for (Node child : super.children) {
+                byte result = child.evaluate(event, memo);
+                if (result != TRUE) {
+                    return result;
+                }
+            }
+
+            return TRUE;
+        }
+
+    }
+
+}
@@ -0,0 +1,41 @@
+/*
+ * This file is part of EventBridge.
+ * Copyright (c) 2014 QuarterCode <http://www.quartercode.com/>
+ *
+ * EventBridge is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of
+ * the License, or (at your option) any later version.
+ *
+ * EventBridge is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EventBridge. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.quartercode.eventbridge.extra.predicate;
+
+import com.quartercode.eventbridge.bridge.Event;
+import com.quartercode.eventbridge.bridge.EventPredicate;
+
+/**
+ * A type bound predicate is an {@link EventPredicate} which can only return {@code true} for {@link Event}s that are instances of its bound type.
+ * That information allows a {@link PredicateIndex} to skip the predicate for all events of other types without even testing it.
+ * 
+ * @param <T> The type of event that can be tested by the predicate.
+ * @see PredicateIndex
+ */
+public interface TypeBoundPredicate<T extends Event> extends EventPredicate<T> {
+
+    /**
+     * Returns the type all {@link Event}s must be instances of in order to match the predicate.
+     * Note that an event of the bound type doesn't necessarily match the predicate.
+     * 
+     * @return The bound type of the predicate.
+     */
+    public Class<? extends T> getBoundType();
+
+}
@@ -28,7 +28,7 @@ import com.quartercode.eventbridge.bridge.EventPredicate;
  * @param <T> The type of event that can be tested by the predicate.
  * @see EventPredicate
  */
-public class TypePredicate<T extends Event> extends EventPredicateBase<T> {
+public class TypePredicate<T extends Event> extends EventPredicateBase<T> implements TypeBoundPredicate<T> {
 
     private static final long        serialVersionUID = -9167731433174822281L;
 
@@ -44,6 +44,12 @@ public class TypePredicate<T extends Event> extends EventPredicateBase<T> {
         this.type = type;
     }
 
+    @Override
+    public Class<? extends T> getBoundType() {
+
+        return type;
+    }
+
     @Override
     public boolean test(T event) {
 
@@ -0,0 +1,38 @@
+/*
+ * This file is part of EventBridge.
+ * Copyright (c) 2014 QuarterCode <http://www.quartercode.com/>
+ *
+ * EventBridge is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of
+ * the License, or (at your option) any later version.
+ *
+ * EventBridge is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EventBridge. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.quartercode.eventbridge.extra.predicate;
+
+import com.quartercode.eventbridge.bridge.Event;
+
+/**
+ * A wrapping event is an {@link Event} which wraps around another event.
+ * A {@link PredicateIndex} uses the type of the wrapped event in order to preselect {@link WrappingTypeBoundPredicate}s.
+ * 
+ * @see WrappingTypeBoundPredicate
+ */
+public interface WrappingEvent extends Event {
+
+    /**
+     * Returns the {@link Event} the wrapping event wraps around.
+     * 
+     * @return The wrapped event, or {@code null} if there is none.
+     */
+    public Event getWrappedEvent();
+
+}
@@ -0,0 +1,41 @@
+/*
+ * This file is part of EventBridge.
+ * Copyright (c) 2014 QuarterCode <http://www.quartercode.com/>
+ *
+ * EventBridge is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of
+ * the License, or (at your option) any later version.
+ *
+ * EventBridge is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EventBridge. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.quartercode.eventbridge.extra.predicate;
+
+import com.quartercode.eventbridge.bridge.Event;
+
+/**
+ * A wrapping type bound predicate is a {@link TypeBoundPredicate} for {@link WrappingEvent}s which can only return {@code true} if the wrapped {@link Event} is an instance of another bound type.
+ * That information allows a {@link PredicateIndex} to skip the predicate for all wrapping events whose wrapped events are of other types.
+ * 
+ * @param <T> The type of wrapping event that can be tested by the predicate.
+ * @see PredicateIndex
+ * @see WrappingEvent
+ */
+public interface WrappingTypeBoundPredicate<T extends WrappingEvent> extends TypeBoundPredicate<T> {
+
+    /**
+     * Returns the type all wrapped {@link Event}s must be instances of in order to match the predicate.
+     * If the predicate doesn't restrict the type of the wrapped events, this method returns {@code null}.
+     * 
+     * @return The bound type of the wrapped events, or {@code null}.
+     */
+    public Class<? extends Event> getWrappedBoundType();
+
+}
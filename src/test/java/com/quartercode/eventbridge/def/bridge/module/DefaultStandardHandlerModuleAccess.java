@@ -0,0 +1,36 @@
+/*
+ * This file is part of EventBridge.
+ * Copyright (c) 2014 QuarterCode <http://www.quartercode.com/>
+ *
+ * EventBridge is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of
+ * the License, or (at your option) any later version.
+ *
+ * EventBridge is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EventBridge. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.quartercode.eventbridge.def.bridge.module;
+
+import java.lang.ref.Reference;
+import com.quartercode.eventbridge.bridge.module.EventHandler;
+
+// Lives in the package of the module in order to reach its package-private test seams
+public class DefaultStandardHandlerModuleAccess {
+
+    public static Reference<EventHandler<?>> getWeakHandlerReference(DefaultStandardHandlerModule module, EventHandler<?> handler) {
+
+        return module.getWeakHandlerReference(handler);
+    }
+
+    private DefaultStandardHandlerModuleAccess() {
+
+    }
+
+}
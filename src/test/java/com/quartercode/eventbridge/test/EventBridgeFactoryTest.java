@@ -42,9 +42,13 @@ import com.quartercode.eventbridge.def.bridge.module.DefaultLocalHandlerSenderMo
 import com.quartercode.eventbridge.def.bridge.module.DefaultLowLevelHandlerModule;
 import com.quartercode.eventbridge.def.bridge.module.DefaultSenderModule;
 import com.quartercode.eventbridge.def.bridge.module.DefaultStandardHandlerModule;
+import com.quartercode.eventbridge.def.extra.bridge.DefaultRingBufferBridge;
+import com.quartercode.eventbridge.def.extra.extension.DefaultAsyncDispatchExtension;
 import com.quartercode.eventbridge.def.extra.extension.DefaultReturnEventExtensionRequester;
 import com.quartercode.eventbridge.def.extra.extension.DefaultReturnEventExtensionReturner;
 import com.quartercode.eventbridge.def.extra.extension.DefaultSendPredicateCheckExtension;
+import com.quartercode.eventbridge.extra.bridge.RingBufferBridge;
+import com.quartercode.eventbridge.extra.extension.AsyncDispatchExtension;
 import com.quartercode.eventbridge.extra.extension.ReturnEventExtensionRequester;
 import com.quartercode.eventbridge.extra.extension.ReturnEventExtensionReturner;
 import com.quartercode.eventbridge.extra.extension.SendPredicateCheckExtension;
@@ -58,6 +62,7 @@ public class EventBridgeFactoryTest {
         List<Object[]> data = new ArrayList<>();
 
         data.add(new Object[] { Bridge.class, DefaultBridge.class });
+        data.add(new Object[] { RingBufferBridge.class, DefaultRingBufferBridge.class });
 
         data.add(new Object[] { SenderModule.class, DefaultSenderModule.class });
         data.add(new Object[] { ConnectorSenderModule.class, DefaultConnectorSenderModule.class });
@@ -69,6 +74,7 @@ public class EventBridgeFactoryTest {
         data.add(new Object[] { SendPredicateCheckExtension.class, DefaultSendPredicateCheckExtension.class });
         data.add(new Object[] { ReturnEventExtensionReturner.class, DefaultReturnEventExtensionReturner.class });
         data.add(new Object[] { ReturnEventExtensionRequester.class, DefaultReturnEventExtensionRequester.class });
+        data.add(new Object[] { AsyncDispatchExtension.class, DefaultAsyncDispatchExtension.class });
 
         return data;
     }
@@ -18,6 +18,10 @@
 
 package com.quartercode.eventbridge.test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import org.hamcrest.Description;
 import org.hamcrest.Factory;
 import org.hamcrest.Matcher;
@@ -33,6 +37,12 @@ public class ExtraMatchers {
         return new LowLevelHandlerPredicateMatcher(predicate);
     }
 
+    @Factory
+    public static Matcher<Collection<? extends LowLevelHandler>> lowLevelHandlersWithThePredicates(EventPredicate<?>... predicates) {
+
+        return new LowLevelHandlersPredicatesMatcher(predicates);
+    }
+
     private ExtraMatchers() {
 
     }
@@ -60,4 +70,35 @@ public class ExtraMatchers {
 
     }
 
+    private static class LowLevelHandlersPredicatesMatcher extends TypeSafeMatcher<Collection<? extends LowLevelHandler>> {
+
+        private final EventPredicate<?>[] predicates;
+
+        private LowLevelHandlersPredicatesMatcher(EventPredicate<?>[] predicates) {
+
+            this.predicates = predicates;
+        }
+
+        @Override
+        protected boolean matchesSafely(Collection<? extends LowLevelHandler> item) {
+
+            // The order of the handlers doesn't matter
+            List<EventPredicate<?>> remainingPredicates = new ArrayList<>(Arrays.asList(predicates));
+            for (LowLevelHandler handler : item) {
+                if (!remainingPredicates.remove(handler.getPredicate())) {
+                    return false;
+                }
+            }
+
+            return remainingPredicates.isEmpty();
+        }
+
+        @Override
+        public void describeTo(Description description) {
+
+            description.appendText("low-level handlers with the predicates ").appendValueList("[", ", ", "]", predicates);
+        }
+
+    }
+
 }
@@ -18,13 +18,18 @@
 
 package com.quartercode.eventbridge.test.basic;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import org.junit.Test;
 import com.quartercode.eventbridge.basic.EventUtils;
+import com.quartercode.eventbridge.bridge.Event;
 import com.quartercode.eventbridge.bridge.EventPredicate;
 import com.quartercode.eventbridge.bridge.module.EventHandler;
+import com.quartercode.eventbridge.extra.predicate.TypePredicate;
 import com.quartercode.eventbridge.test.DummyEvents.CallableEvent;
 import com.quartercode.eventbridge.test.DummyEvents.EmptyEvent1;
+import com.quartercode.eventbridge.test.DummyEvents.EmptyEvent2;
 
 public class EventUtilsTest {
 
@@ -72,4 +77,69 @@ public class EventUtilsTest {
         EventUtils.tryTest(predicate, new EmptyEvent1());
     }
 
+    @Test
+    public void testResolveEventType() {
+
+        assertEquals("Event type of anonymous predicate", CallableEvent.class, EventUtils.getEventType(new EventPredicate<CallableEvent>() {
+
+            private static final long serialVersionUID = -2379417390155473069L;
+
+            @Override
+            public boolean test(CallableEvent event) {
+
+                return true;
+            }
+
+        }));
+
+        assertEquals("Event type of generic predicate", Event.class, EventUtils.getEventType(new TypePredicate<>(EmptyEvent1.class)));
+        assertEquals("Event type of inherited predicate", EmptyEvent1.class, EventUtils.getEventType(new EmptyEvent1TypePredicate()));
+        assertEquals("Event type of raw predicate", Event.class, EventUtils.resolveEventType(RawPredicate.class, EventPredicate.class));
+        assertEquals("Event type of generic handler", EmptyEvent1.class, EventUtils.resolveEventType(EmptyEvent1Handler.class, EventHandler.class));
+    }
+
+    @Test
+    public void testTryTestWrongEventType() {
+
+        assertFalse("Event with wrong type was tested positively", EventUtils.tryTest(new EmptyEvent1TypePredicate(), new EmptyEvent2()));
+        assertTrue("Event with right type wasn't tested positively", EventUtils.tryTest(new EmptyEvent1TypePredicate(), new EmptyEvent1()));
+    }
+
+    private static class EmptyEvent1TypePredicate extends TypePredicate<EmptyEvent1> {
+
+        private static final long serialVersionUID = 5096137012418393541L;
+
+        private EmptyEvent1TypePredicate() {
+
+            super(EmptyEvent1.class);
+        }
+
+    }
+
+    @SuppressWarnings ("rawtypes")
+    private static class RawPredicate implements EventPredicate {
+
+        private static final long serialVersionUID = -2922407180593522373L;
+
+        @Override
+        public boolean test(Event event) {
+
+            return true;
+        }
+
+    }
+
+    private static abstract class AbstractHandler<T extends Event, O> implements EventHandler<T> {
+
+    }
+
+    private static class EmptyEvent1Handler extends AbstractHandler<EmptyEvent1, String> {
+
+        @Override
+        public void handle(EmptyEvent1 event) {
+
+        }
+
+    }
+
 }
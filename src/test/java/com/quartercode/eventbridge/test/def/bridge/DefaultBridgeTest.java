@@ -20,24 +20,37 @@ package com.quartercode.eventbridge.test.def.bridge;
 
 import static com.quartercode.eventbridge.test.ExtraAssert.assertListEquals;
 import static org.junit.Assert.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import org.jmock.Expectations;
 import org.jmock.Sequence;
 import org.jmock.integration.junit4.JUnitRuleMockery;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import com.quartercode.eventbridge.basic.AbstractBridgeConnector;
 import com.quartercode.eventbridge.bridge.Bridge.ModifyConnectorListListener;
 import com.quartercode.eventbridge.bridge.BridgeConnector;
 import com.quartercode.eventbridge.bridge.BridgeConnectorException;
 import com.quartercode.eventbridge.bridge.BridgeModule;
+import com.quartercode.eventbridge.bridge.Event;
+import com.quartercode.eventbridge.bridge.EventPredicate;
 import com.quartercode.eventbridge.bridge.module.ConnectorSenderModule;
 import com.quartercode.eventbridge.bridge.module.HandlerModule;
 import com.quartercode.eventbridge.bridge.module.LocalHandlerSenderModule;
+import com.quartercode.eventbridge.bridge.module.LowLevelHandler;
 import com.quartercode.eventbridge.bridge.module.LowLevelHandlerModule;
 import com.quartercode.eventbridge.bridge.module.SenderModule;
 import com.quartercode.eventbridge.bridge.module.StandardHandlerModule;
 import com.quartercode.eventbridge.def.bridge.DefaultBridge;
+import com.quartercode.eventbridge.def.bridge.module.DefaultLowLevelHandlerModule;
+import com.quartercode.eventbridge.extra.predicate.TypePredicate;
 import com.quartercode.eventbridge.test.DummyEvents.EmptyEvent1;
+import com.quartercode.eventbridge.test.DummyEvents.EmptyEvent2;
 
 public class DefaultBridgeTest {
 
@@ -180,6 +193,31 @@ public class DefaultBridgeTest {
         assertNull("Bridge module exists although it was removed", bridge.getModule(BridgeModule1.class));
     }
 
+    @Test
+    public void testReplaceModule() {
+
+        final BridgeModule module1 = context.mock(BridgeModule1.class, "module1");
+        final BridgeModule module2 = context.mock(BridgeModule1.class, "module2");
+
+        // @formatter:off
+        context.checking(new Expectations() {{
+
+            final Sequence moduleCalls = context.sequence("moduleCalls");
+
+            oneOf(module1).add(bridge); inSequence(moduleCalls);
+            oneOf(module1).remove(); inSequence(moduleCalls);
+            oneOf(module2).add(bridge); inSequence(moduleCalls);
+
+        }});
+        // @formatter:on
+
+        bridge.addModule(module1);
+        assertEquals("Retrieved bridge module", module1, bridge.getModule(BridgeModule1.class));
+        bridge.removeModule(module1);
+        bridge.addModule(module2);
+        assertEquals("Retrieved bridge module after replacement", module2, bridge.getModule(BridgeModule1.class));
+    }
+
     @Test
     public void testSenderModulesAdded() {
 
@@ -218,6 +256,55 @@ public class DefaultBridgeTest {
         bridge.send(event);
     }
 
+    @Test
+    public void testSendCollection() {
+
+        final SenderModule senderModule = context.mock(SenderModule.class);
+        final List<EmptyEvent1> events = Arrays.asList(new EmptyEvent1(), new EmptyEvent1());
+
+        // @formatter:off
+        context.checking(new Expectations() {{
+
+            allowing(senderModule).add(bridge);
+            oneOf(senderModule).send(events);
+
+        }});
+        // @formatter:on
+
+        // Replace the bridge's sender module with a mock object
+        bridge.removeModule(bridge.getModule(SenderModule.class));
+        bridge.addModule(senderModule);
+
+        bridge.send(events);
+    }
+
+    @Test
+    public void testSendCollectionThroughModules() throws BridgeConnectorException {
+
+        BatchCountingLowLevelHandlerModule lowLevelHandlerModule = new BatchCountingLowLevelHandlerModule();
+        bridge.removeModule(bridge.getModule(LowLevelHandlerModule.class));
+        bridge.addModule(lowLevelHandlerModule);
+
+        CountingBridgeConnector connector = new CountingBridgeConnector();
+        bridge.addConnector(connector);
+
+        EmptyEvent1 event1 = new EmptyEvent1();
+        EmptyEvent1 event2 = new EmptyEvent1();
+        EmptyEvent1 event3 = new EmptyEvent1();
+        EmptyEvent2 nestedEvent = new EmptyEvent2();
+
+        RecordingLowLevelHandler handler = new RecordingLowLevelHandler(event1, nestedEvent);
+        lowLevelHandlerModule.addHandler(handler);
+
+        bridge.send(Arrays.asList(event1, event2, event3));
+
+        // The batch should reach the low-level handler module with one call, while the nested event should be delivered directly
+        assertListEquals("Batch sizes the low-level handler module received", lowLevelHandlerModule.batchSizes, 3);
+        assertEquals("Number of single events the low-level handler module received", 1, lowLevelHandlerModule.singleEvents.get());
+        assertListEquals("Events the handler received", handler.handledEvents, event1, nestedEvent, event2, event3);
+        assertEquals("Number of events the connector received", 4, connector.sentEvents.get());
+    }
+
     @Test
     public void testHandle() {
 
@@ -241,6 +328,29 @@ public class DefaultBridgeTest {
         bridge.handle(event, source);
     }
 
+    @Test
+    public void testHandleCollection() {
+
+        final HandlerModule handlerModule = context.mock(HandlerModule.class);
+        final List<EmptyEvent1> events = Arrays.asList(new EmptyEvent1(), new EmptyEvent1());
+        final BridgeConnector source = context.mock(BridgeConnector.class);
+
+        // @formatter:off
+        context.checking(new Expectations() {{
+
+            allowing(handlerModule).add(bridge);
+            oneOf(handlerModule).handle(events, source);
+
+        }});
+        // @formatter:on
+
+        // Replace the bridge's handler module with a mock object
+        bridge.removeModule(bridge.getModule(HandlerModule.class));
+        bridge.addModule(handlerModule);
+
+        bridge.handle(events, source);
+    }
+
     @Test
     public void testConnectorStorage() throws BridgeConnectorException {
 
@@ -356,6 +466,113 @@ public class DefaultBridgeTest {
         bridge.removeConnector(connector);
     }
 
+    @Test
+    public void testConcurrentSendAndModifyConnectors() throws BridgeConnectorException, InterruptedException {
+
+        CountingBridgeConnector permanentConnector = new CountingBridgeConnector();
+        bridge.addConnector(permanentConnector);
+
+        final int sendsPerThread = 10000;
+        final AtomicReference<Throwable> senderError = new AtomicReference<>();
+        Thread[] senders = new Thread[4];
+        for (int index = 0; index < senders.length; index++) {
+            senders[index] = new Thread() {
+
+                @Override
+                public void run() {
+
+                    try {
+                        for (int send = 0; send < sendsPerThread; send++) {
+                            bridge.send(new EmptyEvent1());
+                        }
+                    } catch (Throwable e) {
+                        senderError.set(e);
+                    }
+                }
+
+            };
+            senders[index].start();
+        }
+
+        for (int iteration = 0; iteration < 1000; iteration++) {
+            CountingBridgeConnector temporaryConnector = new CountingBridgeConnector();
+            bridge.addConnector(temporaryConnector);
+            bridge.removeConnector(temporaryConnector);
+        }
+
+        for (Thread sender : senders) {
+            sender.join();
+        }
+
+        assertNull("Error that occurred while sending concurrently", senderError.get());
+        assertEquals("Number of events the permanent connector received", senders.length * sendsPerThread, permanentConnector.sentEvents.get());
+        assertListEquals("Connectors that are stored inside the bridge are not correct", bridge.getConnectors(), permanentConnector);
+    }
+
+    private static class CountingBridgeConnector extends AbstractBridgeConnector {
+
+        private final AtomicInteger sentEvents = new AtomicInteger();
+
+        @Override
+        public void send(Event event) {
+
+            sentEvents.incrementAndGet();
+        }
+
+    }
+
+    private static class BatchCountingLowLevelHandlerModule extends DefaultLowLevelHandlerModule {
+
+        private final List<Integer> batchSizes   = new ArrayList<>();
+        private final AtomicInteger singleEvents = new AtomicInteger();
+
+        @Override
+        public void handle(Event event, BridgeConnector source) {
+
+            singleEvents.incrementAndGet();
+            super.handle(event, source);
+        }
+
+        @Override
+        public void handle(Collection<? extends Event> events, BridgeConnector source) {
+
+            batchSizes.add(events.size());
+            super.handle(events, source);
+        }
+
+    }
+
+    private class RecordingLowLevelHandler implements LowLevelHandler {
+
+        private final Event       triggerEvent;
+        private final Event       nestedEvent;
+        private final List<Event> handledEvents = new ArrayList<>();
+
+        private RecordingLowLevelHandler(Event triggerEvent, Event nestedEvent) {
+
+            this.triggerEvent = triggerEvent;
+            this.nestedEvent = nestedEvent;
+        }
+
+        @Override
+        public EventPredicate<?> getPredicate() {
+
+            return new TypePredicate<>(Event.class);
+        }
+
+        @Override
+        public void handle(Event event, BridgeConnector source) {
+
+            handledEvents.add(event);
+
+            // Send another event while the batch is delivered
+            if (event == triggerEvent) {
+                bridge.send(nestedEvent);
+            }
+        }
+
+    }
+
     private static interface BridgeModule1 extends BridgeModule {
 
     }
@@ -18,6 +18,7 @@
 
 package com.quartercode.eventbridge.test.def.bridge.module;
 
+import java.util.Arrays;
 import org.jmock.Expectations;
 import org.jmock.Sequence;
 import org.jmock.auto.Mock;
@@ -94,6 +95,31 @@ public class DefaultLocalHandlerSenderModuleTest {
         module.send(event);
     }
 
+    @SuppressWarnings ("unchecked")
+    @Test
+    public void testSendCollection() throws BridgeConnectorException {
+
+        final EmptyEvent1 event1 = new EmptyEvent1();
+        final EmptyEvent1 event2 = new EmptyEvent1();
+
+        final LocalHandlerSendInterceptor interceptor = context.mock(LocalHandlerSendInterceptor.class);
+        module.getChannel().addInterceptor(new DummyLocalHandlerSendInterceptor(interceptor), 1);
+
+        // @formatter:off
+        context.checking(new Expectations() {{
+
+            final Sequence sendChain = context.sequence("sendChain");
+            oneOf(interceptor).send(with(any(ChannelInvocation.class)), with(event1)); inSequence(sendChain);
+            oneOf(interceptor).send(with(any(ChannelInvocation.class)), with(event2)); inSequence(sendChain);
+            // The whole batch should be handled at once
+            oneOf(bridge).handle(Arrays.asList(event1, event2), null); inSequence(sendChain);
+
+        }});
+        // @formatter:on
+
+        module.send(Arrays.asList(event1, event2));
+    }
+
     @Test
     public void testRemove() throws BridgeConnectorException {
 
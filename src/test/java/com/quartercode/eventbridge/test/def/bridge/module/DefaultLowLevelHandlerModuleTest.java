@@ -20,7 +20,12 @@ package com.quartercode.eventbridge.test.def.bridge.module;
 
 import static com.quartercode.eventbridge.test.ExtraActions.storeArgument;
 import static com.quartercode.eventbridge.test.ExtraAssert.assertListEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import org.jmock.Expectations;
 import org.jmock.Sequence;
@@ -44,6 +49,7 @@ import com.quartercode.eventbridge.channel.Channel;
 import com.quartercode.eventbridge.channel.ChannelInvocation;
 import com.quartercode.eventbridge.def.bridge.module.DefaultLowLevelHandlerModule;
 import com.quartercode.eventbridge.def.channel.DefaultChannel;
+import com.quartercode.eventbridge.extra.predicate.TypePredicate;
 import com.quartercode.eventbridge.test.DummyEvents.CallableEvent;
 import com.quartercode.eventbridge.test.DummyEvents.EmptyEvent1;
 import com.quartercode.eventbridge.test.DummyEvents.EmptyEvent2;
@@ -110,6 +116,16 @@ public class DefaultLowLevelHandlerModuleTest {
         final LowLevelHandler handler2 = context.mock(LowLevelHandler.class, "handler2");
         final LowLevelHandler handler3 = context.mock(LowLevelHandler.class, "handler3");
 
+        // @formatter:off
+        context.checking(new Expectations() {{
+
+            allowing(handler1).getPredicate();
+            allowing(handler2).getPredicate();
+            allowing(handler3).getPredicate();
+
+        }});
+        // @formatter:on
+
         assertHandlerListEmpty();
 
         module.removeHandler(handler1);
@@ -147,6 +163,8 @@ public class DefaultLowLevelHandlerModuleTest {
         // @formatter:off
         context.checking(new Expectations() {{
 
+            allowing(handler).getPredicate();
+
             final Sequence listenerCalls = context.sequence("listenerCalls");
             oneOf(listener).onAddHandler(handler, module); inSequence(listenerCalls);
             oneOf(listener).onRemoveHandler(handler, module); inSequence(listenerCalls);
@@ -165,6 +183,43 @@ public class DefaultLowLevelHandlerModuleTest {
         module.removeHandler(handler);
     }
 
+    @Test
+    public void testHandlerStorageBatch() {
+
+        final LowLevelHandler handler1 = context.mock(LowLevelHandler.class, "handler1");
+        final LowLevelHandler handler2 = context.mock(LowLevelHandler.class, "handler2");
+        final LowLevelHandler handler3 = context.mock(LowLevelHandler.class, "handler3");
+        final ModifyLowLevelHandlerListListener listener = context.mock(ModifyLowLevelHandlerListListener.class);
+
+        // @formatter:off
+        context.checking(new Expectations() {{
+
+            allowing(handler1).getPredicate();
+            allowing(handler2).getPredicate();
+            allowing(handler3).getPredicate();
+
+            // Only one call per batch
+            final Sequence listenerCalls = context.sequence("listenerCalls");
+            oneOf(listener).onAddHandlers(Arrays.asList(handler1, handler2, handler3), module); inSequence(listenerCalls);
+            oneOf(listener).onRemoveHandlers(Arrays.asList(handler1, handler3), module); inSequence(listenerCalls);
+
+        }});
+        // @formatter:on
+
+        module.addModifyHandlerListListener(listener);
+
+        module.addHandlers(Arrays.asList(handler1, handler2, handler3));
+        assertListEquals("Handlers that are stored inside the module after batch addition", module.getHandlers(), handler1, handler2, handler3);
+
+        // Handlers which aren't stored or are contained twice must not be reported twice
+        module.removeHandlers(Arrays.asList(handler1, handler3, handler1));
+        assertListEquals("Handlers that are stored inside the module after batch removal", module.getHandlers(), handler2);
+
+        // Empty batches must not be reported
+        module.addHandlers(Collections.<LowLevelHandler> emptyList());
+        module.removeHandlers(Arrays.asList(handler1));
+    }
+
     @SuppressWarnings ("unchecked")
     @Test
     public void testHandle() {
@@ -182,7 +237,6 @@ public class DefaultLowLevelHandlerModuleTest {
 
         final LowLevelHandler handler = context.mock(LowLevelHandler.class);
         final EventPredicate<Event> predicate = context.mock(EventPredicate.class);
-        module.addHandler(handler);
 
         // @formatter:off
         context.checking(new Expectations() {{
@@ -206,12 +260,47 @@ public class DefaultLowLevelHandlerModuleTest {
         }});
         // @formatter:on
 
+        module.addHandler(handler);
         module.handle(regularEvent, source);
 
         // Test with wrongly typed event
         module.handle(otherEvent, source);
     }
 
+    @SuppressWarnings ("unchecked")
+    @Test
+    public void testHandleCollection() {
+
+        final BridgeConnector source = context.mock(BridgeConnector.class);
+
+        final EmptyEvent1 event1 = new EmptyEvent1();
+        final EmptyEvent2 event2 = new EmptyEvent2();
+
+        final GlobalLowLevelHandleInterceptor globalInterceptor = context.mock(GlobalLowLevelHandleInterceptor.class);
+        module.getGlobalChannel().addInterceptor(new DummyGlobalLowLevelHandleInterceptor(globalInterceptor), 1);
+
+        final LowLevelHandler handler = context.mock(LowLevelHandler.class);
+
+        // @formatter:off
+        context.checking(new Expectations() {{
+
+            allowing(handler).getPredicate();
+                will(returnValue(new TypePredicate<>(Event.class)));
+
+            final Sequence handleChain = context.sequence("handleChain");
+            // The handlers should only be invoked after the whole batch went through the global channel
+            oneOf(globalInterceptor).handle(with(any(ChannelInvocation.class)), with(event1), with(source)); inSequence(handleChain);
+            oneOf(globalInterceptor).handle(with(any(ChannelInvocation.class)), with(event2), with(source)); inSequence(handleChain);
+            oneOf(handler).handle(event1, source); inSequence(handleChain);
+            oneOf(handler).handle(event2, source); inSequence(handleChain);
+
+        }});
+        // @formatter:on
+
+        module.addHandler(handler);
+        module.handle(Arrays.asList(event1, event2), source);
+    }
+
     @Test
     public void testHandleWrongTypeInPredicate() {
 
@@ -276,4 +365,113 @@ public class DefaultLowLevelHandlerModuleTest {
         dummyChannelInvocation.next().handle(dummyChannelInvocation, event, source);
     }
 
+    @Test
+    public void testHandleWithDispatchCache() {
+
+        final BridgeConnector source = context.mock(BridgeConnector.class);
+        final EmptyEvent1 event = new EmptyEvent1();
+
+        final LowLevelHandler handler = context.mock(LowLevelHandler.class);
+        final LowLevelHandler otherHandler = context.mock(LowLevelHandler.class, "otherHandler");
+
+        // @formatter:off
+        context.checking(new Expectations() {{
+
+            allowing(handler).getPredicate();
+                will(returnValue(new TypePredicate<>(EmptyEvent1.class)));
+            allowing(otherHandler).getPredicate();
+                will(returnValue(new TypePredicate<>(EmptyEvent2.class)));
+
+            exactly(2).of(handler).handle(event, source);
+
+        }});
+        // @formatter:on
+
+        module.setDispatchCacheEnabled(true);
+        module.addHandler(handler);
+        module.addHandler(otherHandler);
+
+        module.handle(event, source);
+        module.handle(event, source);
+
+        assertEquals("Dispatch cache hits", 1, module.getDispatchCacheHits());
+        assertEquals("Dispatch cache misses", 1, module.getDispatchCacheMisses());
+    }
+
+    @Test
+    public void testHandleCollectionWithDispatchCache() {
+
+        final BridgeConnector source = context.mock(BridgeConnector.class);
+        final EmptyEvent1 event1 = new EmptyEvent1();
+        final EmptyEvent2 event2 = new EmptyEvent2();
+
+        final LowLevelHandler handler = context.mock(LowLevelHandler.class);
+
+        // @formatter:off
+        context.checking(new Expectations() {{
+
+            allowing(handler).getPredicate();
+                will(returnValue(new TypePredicate<>(EmptyEvent1.class)));
+
+            exactly(2).of(handler).handle(event1, source);
+
+        }});
+        // @formatter:on
+
+        module.setDispatchCacheEnabled(true);
+        module.addHandler(handler);
+
+        // Successive events of the same class should share one lookup
+        module.handle(Arrays.asList(event1, event1, event2), source);
+
+        assertEquals("Dispatch cache hits", 1, module.getDispatchCacheHits());
+        assertEquals("Dispatch cache misses", 2, module.getDispatchCacheMisses());
+    }
+
+    @Test
+    public void testHandleWithFanOut() {
+
+        final EmptyEvent1 event = new EmptyEvent1();
+        final int handlerCount = 50;
+
+        final AtomicInteger invocations = new AtomicInteger();
+
+        for (int counter = 0; counter < handlerCount; counter++) {
+            module.addHandler(new LowLevelHandler() {
+
+                @Override
+                public EventPredicate<?> getPredicate() {
+
+                    return new TypePredicate<>(EmptyEvent1.class);
+                }
+
+                @Override
+                public void handle(Event handledEvent, BridgeConnector source) {
+
+                    invocations.incrementAndGet();
+                }
+
+            });
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            module.setFanOutPool(pool);
+            module.setFanOutThreshold(10);
+
+            module.handle(event, null);
+
+            // The handle() call must not return before all handlers have been invoked
+            assertEquals("Handler invocations", handlerCount, invocations.get());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testSetFanOutThresholdTooLow() {
+
+        module.setFanOutThreshold(1);
+    }
+
 }
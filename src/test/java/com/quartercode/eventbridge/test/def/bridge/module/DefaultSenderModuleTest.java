@@ -18,7 +18,9 @@
 
 package com.quartercode.eventbridge.test.def.bridge.module;
 
+import java.util.Arrays;
 import org.jmock.Expectations;
+import org.jmock.Sequence;
 import org.jmock.auto.Mock;
 import org.jmock.integration.junit4.JUnitRuleMockery;
 import org.junit.Before;
@@ -30,6 +32,7 @@ import com.quartercode.eventbridge.bridge.module.SenderModule.SendInterceptor;
 import com.quartercode.eventbridge.channel.ChannelInvocation;
 import com.quartercode.eventbridge.def.bridge.module.DefaultSenderModule;
 import com.quartercode.eventbridge.test.DummyEvents.EmptyEvent1;
+import com.quartercode.eventbridge.test.DummyEvents.EmptyEvent2;
 import com.quartercode.eventbridge.test.DummyInterceptors.DummySendInterceptor;
 
 public class DefaultSenderModuleTest {
@@ -68,4 +71,27 @@ public class DefaultSenderModuleTest {
         module.send(event);
     }
 
+    @SuppressWarnings ("unchecked")
+    @Test
+    public void testSendCollection() throws BridgeConnectorException {
+
+        final EmptyEvent1 event1 = new EmptyEvent1();
+        final EmptyEvent2 event2 = new EmptyEvent2();
+
+        final SendInterceptor interceptor = context.mock(SendInterceptor.class);
+        module.getChannel().addInterceptor(new DummySendInterceptor(interceptor), 1);
+
+        // @formatter:off
+        context.checking(new Expectations() {{
+
+            final Sequence sendOrder = context.sequence("sendOrder");
+            oneOf(interceptor).send(with(any(ChannelInvocation.class)), with(event1)); inSequence(sendOrder);
+            oneOf(interceptor).send(with(any(ChannelInvocation.class)), with(event2)); inSequence(sendOrder);
+
+        }});
+        // @formatter:on
+
+        module.send(Arrays.asList(event1, event2));
+    }
+
 }
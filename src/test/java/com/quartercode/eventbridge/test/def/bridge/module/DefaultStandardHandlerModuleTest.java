@@ -21,7 +21,18 @@ package com.quartercode.eventbridge.test.def.bridge.module;
 import static com.quartercode.eventbridge.test.ExtraActions.storeArgument;
 import static com.quartercode.eventbridge.test.ExtraAssert.assertMapEquals;
 import static com.quartercode.eventbridge.test.ExtraMatchers.aLowLevelHandlerWithThePredicate;
+import static com.quartercode.eventbridge.test.ExtraMatchers.lowLevelHandlersWithThePredicates;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import org.apache.commons.lang3.tuple.Pair;
 import org.jmock.Expectations;
@@ -36,12 +47,15 @@ import com.quartercode.eventbridge.bridge.BridgeConnector;
 import com.quartercode.eventbridge.bridge.Event;
 import com.quartercode.eventbridge.bridge.EventPredicate;
 import com.quartercode.eventbridge.bridge.module.EventHandler;
+import com.quartercode.eventbridge.bridge.module.Handles;
 import com.quartercode.eventbridge.bridge.module.LowLevelHandler;
 import com.quartercode.eventbridge.bridge.module.LowLevelHandlerModule;
 import com.quartercode.eventbridge.bridge.module.StandardHandlerModule.ModifyStandardHandlerListListener;
 import com.quartercode.eventbridge.bridge.module.StandardHandlerModule.StandardHandleInterceptor;
 import com.quartercode.eventbridge.channel.ChannelInvocation;
 import com.quartercode.eventbridge.def.bridge.module.DefaultStandardHandlerModule;
+import com.quartercode.eventbridge.def.bridge.module.DefaultStandardHandlerModuleAccess;
+import com.quartercode.eventbridge.extra.predicate.TypePredicate;
 import com.quartercode.eventbridge.test.DummyEvents.CallableEvent;
 import com.quartercode.eventbridge.test.DummyEvents.EmptyEvent1;
 import com.quartercode.eventbridge.test.DummyEvents.EmptyEvent2;
@@ -92,8 +106,7 @@ public class DefaultStandardHandlerModuleTest {
             oneOf(lowLevelHandlerModule).addHandler(with(aLowLevelHandlerWithThePredicate(predicate1)));
             oneOf(lowLevelHandlerModule).addHandler(with(aLowLevelHandlerWithThePredicate(predicate2)));
             // Automatic removal
-            oneOf(lowLevelHandlerModule).removeHandler(with(aLowLevelHandlerWithThePredicate(predicate1)));
-            oneOf(lowLevelHandlerModule).removeHandler(with(aLowLevelHandlerWithThePredicate(predicate2)));
+            oneOf(lowLevelHandlerModule).removeHandlers(with(lowLevelHandlersWithThePredicates(predicate1, predicate2)));
 
         }});
         // @formatter:on
@@ -159,6 +172,39 @@ public class DefaultStandardHandlerModuleTest {
         assertTrue("Handlers that are stored inside the module changed on the second retrieval", module.getHandlers().isEmpty());
     }
 
+    @SuppressWarnings ("unchecked")
+    @Test
+    public void testHandlerStorageBatch() {
+
+        EventHandler<EmptyEvent1> handler1 = context.mock(EventHandler.class, "handler1");
+        EventHandler<EmptyEvent2> handler2 = context.mock(EventHandler.class, "handler2");
+        final EventPredicate<EmptyEvent1> predicate1 = context.mock(EventPredicate.class, "predicate1");
+        final EventPredicate<EmptyEvent2> predicate2 = context.mock(EventPredicate.class, "predicate2");
+
+        Map<EventHandler<?>, EventPredicate<?>> handlers = new LinkedHashMap<>();
+        handlers.put(handler1, predicate1);
+        handlers.put(handler2, predicate2);
+
+        // @formatter:off
+        context.checking(new Expectations() {{
+
+            final Sequence handlerListModifications = context.sequence("handlerListModifications");
+            oneOf(lowLevelHandlerModule).addHandlers(with(lowLevelHandlersWithThePredicates(predicate1, predicate2))); inSequence(handlerListModifications);
+            oneOf(lowLevelHandlerModule).removeHandlers(with(lowLevelHandlersWithThePredicates(predicate1, predicate2))); inSequence(handlerListModifications);
+
+        }});
+        // @formatter:on
+
+        module.addHandlers(handlers);
+        assertMapEquals("Handlers that are stored inside the module", module.getHandlers(), Pair.of(handler1, predicate1), Pair.of(handler2, predicate2));
+
+        module.removeHandlers(Arrays.asList(handler1, handler2));
+        assertHandlerListEmpty();
+
+        // Removing unknown handlers mustn't reach the low-level handler module
+        module.removeHandlers(Arrays.asList(handler1));
+    }
+
     @SuppressWarnings ("unchecked")
     @Test
     public void testHandlerStorageListeners() {
@@ -238,6 +284,45 @@ public class DefaultStandardHandlerModuleTest {
         lowLevelHandler.get().handle(otherEvent, source);
     }
 
+    @SuppressWarnings ("unchecked")
+    @Test
+    public void testCallHandlerWithoutInterceptors() {
+
+        final BridgeConnector source = context.mock(BridgeConnector.class);
+
+        final EmptyEvent1 event1 = new EmptyEvent1();
+        final EmptyEvent1 event2 = new EmptyEvent1();
+
+        final EventHandler<Event> handler = context.mock(EventHandler.class, "handler");
+        final EventPredicate<Event> predicate = context.mock(EventPredicate.class, "predicate");
+        final StandardHandleInterceptor interceptor = context.mock(StandardHandleInterceptor.class);
+
+        final AtomicReference<LowLevelHandler> lowLevelHandler = new AtomicReference<>();
+
+        // @formatter:off
+        context.checking(new Expectations() {{
+
+            oneOf(lowLevelHandlerModule).addHandler(with(aLowLevelHandlerWithThePredicate(predicate)));
+                will(storeArgument(0).in(lowLevelHandler));
+
+            final Sequence handleChain = context.sequence("handleChain");
+            // Event 1 (no interceptors)
+            oneOf(handler).handle(event1); inSequence(handleChain);
+            // Event 2 (interceptor added)
+            oneOf(interceptor).handle(with(any(ChannelInvocation.class)), with(event2), with(source), with(handler)); inSequence(handleChain);
+            oneOf(handler).handle(event2); inSequence(handleChain);
+
+        }});
+        // @formatter:on
+
+        module.addHandler(handler, predicate);
+
+        lowLevelHandler.get().handle(event1, source);
+
+        module.getChannel().addInterceptor(new DummyStandardHandleInterceptor(interceptor), 1);
+        lowLevelHandler.get().handle(event2, source);
+    }
+
     @SuppressWarnings ("unchecked")
     @Test
     public void testCallHandlerWrongTypeInPredicate() {
@@ -270,4 +355,178 @@ public class DefaultStandardHandlerModuleTest {
         lowLevelHandler.get().handle(new EmptyEvent1(), null);
     }
 
+    @Test
+    public void testWeakHandler() {
+
+        final BridgeConnector source = context.mock(BridgeConnector.class);
+        final EventPredicate<EmptyEvent1> predicate = new TypePredicate<>(EmptyEvent1.class);
+
+        final AtomicInteger handledEvents = new AtomicInteger();
+        EventHandler<EmptyEvent1> handler = new EventHandler<EmptyEvent1>() {
+
+            @Override
+            public void handle(EmptyEvent1 event) {
+
+                handledEvents.incrementAndGet();
+            }
+
+        };
+
+        final AtomicReference<LowLevelHandler> lowLevelHandler = new AtomicReference<>();
+        final AtomicReference<Collection<LowLevelHandler>> purgedLowLevelHandlers = new AtomicReference<>();
+
+        // @formatter:off
+        context.checking(new Expectations() {{
+
+            oneOf(lowLevelHandlerModule).addHandler(with(aLowLevelHandlerWithThePredicate(predicate)));
+                will(storeArgument(0).in(lowLevelHandler));
+
+            // Purge after the handler has been collected
+            oneOf(lowLevelHandlerModule).removeHandlers(with(lowLevelHandlersWithThePredicates(predicate)));
+                will(storeArgument(0).in(purgedLowLevelHandlers));
+
+        }});
+        // @formatter:on
+
+        module.addWeakHandler(handler, predicate);
+        assertMapEquals("Handlers that are stored inside the module", module.getHandlers(), Pair.of(handler, predicate));
+
+        lowLevelHandler.get().handle(new EmptyEvent1(), source);
+        assertEquals("Number of events handled by the weakly referenced handler", 1, handledEvents.get());
+
+        // Simulate the garbage collection of the handler
+        Reference<EventHandler<?>> handlerReference = DefaultStandardHandlerModuleAccess.getWeakHandlerReference(module, handler);
+        handlerReference.clear();
+        assertTrue("Reference to the weakly referenced handler couldn't be enqueued", handlerReference.enqueue());
+
+        // The collected handler must be purged as soon as an event would be delivered to it
+        lowLevelHandler.get().handle(new EmptyEvent1(), source);
+        assertEquals("Number of events handled by the weakly referenced handler", 1, handledEvents.get());
+        assertNotNull("Low-level handler of the collected handler hasn't been purged", purgedLowLevelHandlers.get());
+
+        // The low-level handler mustn't be removed a second time
+        module.purgeCollectedHandlers();
+    }
+
+    @SuppressWarnings ("unchecked")
+    @Test
+    public void testWeakHandlerRemove() {
+
+        EventHandler<EmptyEvent1> handler = context.mock(EventHandler.class, "handler");
+        final EventPredicate<EmptyEvent1> predicate = context.mock(EventPredicate.class, "predicate");
+
+        // @formatter:off
+        context.checking(new Expectations() {{
+
+            final Sequence handlerListModifications = context.sequence("handlerListModifications");
+            oneOf(lowLevelHandlerModule).addHandler(with(aLowLevelHandlerWithThePredicate(predicate))); inSequence(handlerListModifications);
+            oneOf(lowLevelHandlerModule).removeHandler(with(aLowLevelHandlerWithThePredicate(predicate))); inSequence(handlerListModifications);
+
+        }});
+        // @formatter:on
+
+        module.addWeakHandler(handler, predicate);
+        module.removeHandler(handler);
+        assertHandlerListEmpty();
+
+        // Removing the handler again should do nothing
+        module.removeHandler(handler);
+    }
+
+    @Test
+    public void testAnnotatedHandlers() {
+
+        final BridgeConnector source = context.mock(BridgeConnector.class);
+
+        final EmptyEvent1 event1 = new EmptyEvent1();
+        final EmptyEvent2 event2 = new EmptyEvent2();
+
+        final TypePredicate<EmptyEvent1> predicate1 = new TypePredicate<>(EmptyEvent1.class);
+        final TypePredicate<EmptyEvent2> predicate2 = new TypePredicate<>(EmptyEvent2.class);
+
+        final AtomicReference<Collection<LowLevelHandler>> lowLevelHandlers = new AtomicReference<>();
+
+        // @formatter:off
+        context.checking(new Expectations() {{
+
+            oneOf(lowLevelHandlerModule).addHandlers(with(lowLevelHandlersWithThePredicates(predicate1, predicate2)));
+                will(storeArgument(0).in(lowLevelHandlers));
+
+            oneOf(lowLevelHandlerModule).removeHandlers(with(lowLevelHandlersWithThePredicates(predicate1, predicate2)));
+
+        }});
+        // @formatter:on
+
+        AnnotatedHandlerObject object = new AnnotatedHandlerObject();
+        List<EventHandler<?>> handlers = module.addAnnotatedHandlers(object);
+        assertEquals("Number of handlers created for annotated methods", 2, handlers.size());
+        assertTrue("Created handlers are not stored inside the module", module.getHandlers().keySet().containsAll(handlers));
+
+        for (LowLevelHandler lowLevelHandler : lowLevelHandlers.get()) {
+            if (lowLevelHandler.getPredicate().equals(predicate1)) {
+                lowLevelHandler.handle(event1, source);
+            }
+        }
+        for (LowLevelHandler lowLevelHandler : lowLevelHandlers.get()) {
+            if (lowLevelHandler.getPredicate().equals(predicate2)) {
+                lowLevelHandler.handle(event2, source);
+            }
+        }
+        assertEquals("Events handled by the annotated methods", Arrays.<Event> asList(event1, event2), object.handledEvents);
+
+        module.removeAnnotatedHandlers(object);
+        assertHandlerListEmpty();
+
+        // Removing the handlers again should do nothing
+        module.removeAnnotatedHandlers(object);
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testAnnotatedHandlersIllegalMethod() {
+
+        module.addAnnotatedHandlers(new Object() {
+
+            @Handles
+            public void handle(EmptyEvent1 event, BridgeConnector source) {
+
+            }
+
+        });
+    }
+
+    private static class AnnotatedHandlerSuperObject {
+
+        protected final List<Event> handledEvents = new ArrayList<>();
+
+        @Handles
+        public void handleEvent1(EmptyEvent1 event) {
+
+            // Overridden by the subclass
+            handledEvents.add(null);
+        }
+
+        @Handles
+        private void handleEvent2(EmptyEvent2 event) {
+
+            handledEvents.add(event);
+        }
+
+    }
+
+    private static class AnnotatedHandlerObject extends AnnotatedHandlerSuperObject {
+
+        @Override
+        @Handles
+        public void handleEvent1(EmptyEvent1 event) {
+
+            handledEvents.add(event);
+        }
+
+        public void handleUnannotated(EmptyEvent2 event) {
+
+            handledEvents.add(null);
+        }
+
+    }
+
 }
@@ -19,6 +19,12 @@
 package com.quartercode.eventbridge.test.def.channel;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import org.jmock.Expectations;
 import org.jmock.Sequence;
 import org.jmock.integration.junit4.JUnitRuleMockery;
@@ -27,6 +33,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import com.quartercode.eventbridge.channel.Channel;
 import com.quartercode.eventbridge.channel.ChannelInvocation;
+import com.quartercode.eventbridge.channel.FilteringInterceptor;
 import com.quartercode.eventbridge.def.channel.DefaultChannel;
 
 public class ChannelTest {
@@ -167,6 +174,150 @@ public class ChannelTest {
         assertEquals("Value that was returned by the channel", "012", result);
     }
 
+    @Test
+    public void testInvokeFiltered() {
+
+        TestInterceptor interceptor0 = new TestInterceptor() {
+
+            @Override
+            public String run(ChannelInvocation<TestInterceptor> invocation, String[] testArguments) {
+
+                return "0";
+            };
+
+        };
+
+        channel.addInterceptor(new FilteringTestInterceptor("2", CharSequence.class), 2);
+        channel.addInterceptor(new FilteringTestInterceptor("1", Integer.class, Long.class), 1);
+        channel.addInterceptor(interceptor0, 0);
+
+        assertEquals("Value that was returned by the channel (no filter)", "012", invokeFiltered(null));
+        assertEquals("Value that was returned by the channel (filter String)", "02", invokeFiltered(String.class));
+        assertEquals("Value that was returned by the channel (filter Long)", "01", invokeFiltered(Long.class));
+        assertEquals("Value that was returned by the channel (filter Object)", "0", invokeFiltered(Object.class));
+
+        // The filter cache must be discarded when the interceptors change
+        channel.addInterceptor(new FilteringTestInterceptor("3", Object.class), 3);
+        assertEquals("Value that was returned by the channel after modification (filter Object)", "03", invokeFiltered(Object.class));
+    }
+
+    private String invokeFiltered(Class<?> filterType) {
+
+        ChannelInvocation<TestInterceptor> invocation = channel.invoke(filterType);
+        return invocation.next().run(invocation, null);
+    }
+
+    @Test
+    public void testIsOnlyInterceptor() {
+
+        TestInterceptor interceptor0 = context.mock(TestInterceptor.class, "interceptor0");
+
+        assertFalse("Interceptor is the only one in an empty channel", channel.isOnlyInterceptor(interceptor0, null));
+
+        channel.addInterceptor(interceptor0, 0);
+        assertTrue("Interceptor isn't the only one (no filter)", channel.isOnlyInterceptor(interceptor0, null));
+
+        channel.addInterceptor(new FilteringTestInterceptor("1", Long.class), 1);
+        assertFalse("Interceptor is the only one (no filter)", channel.isOnlyInterceptor(interceptor0, null));
+        assertFalse("Interceptor is the only one (filter Long)", channel.isOnlyInterceptor(interceptor0, Long.class));
+        assertTrue("Interceptor isn't the only one (filter String)", channel.isOnlyInterceptor(interceptor0, String.class));
+        assertFalse("Other interceptor is the only one (filter String)", channel.isOnlyInterceptor(context.mock(TestInterceptor.class, "interceptor2"), String.class));
+    }
+
+    @Test
+    public void testEmptyInterceptorReused() {
+
+        ChannelInvocation<TestInterceptor> invocation1 = channel.invoke();
+        ChannelInvocation<TestInterceptor> invocation2 = channel.invoke();
+        TestInterceptor emptyInterceptor = invocation1.next();
+
+        assertNull("Value that was returned by the empty interceptor", emptyInterceptor.run(invocation1, null));
+        assertSame("Empty interceptor of second invocation", emptyInterceptor, invocation1.next());
+        assertSame("Empty interceptor of other invocation", emptyInterceptor, invocation2.next());
+        assertSame("Empty interceptor of other channel", emptyInterceptor, new DefaultChannel<>(TestInterceptor.class).invoke().next());
+    }
+
+    @SuppressWarnings ("unchecked")
+    @Test
+    public void testTerminalInterceptor() {
+
+        final TestInterceptor terminalInterceptor = context.mock(TestInterceptor.class, "terminalInterceptor");
+        channel = new DefaultChannel<>(TestInterceptor.class, terminalInterceptor);
+        channel.addInterceptor(new FilteringTestInterceptor("1", Long.class), 1);
+
+        // @formatter:off
+        context.checking(new Expectations() {{
+
+            exactly(2).of(terminalInterceptor).run(with(any(ChannelInvocation.class)), with(aNull(String[].class)));
+                will(returnValue("T"));
+
+        }});
+        // @formatter:on
+
+        assertEquals("Value that was returned by the channel (no filter)", "T1", invokeFiltered(null));
+        assertEquals("Value that was returned by the channel (filter String)", "T", invokeFiltered(String.class));
+    }
+
+    @Test
+    public void testModifyWhileInvoking() throws InterruptedException {
+
+        TestInterceptor interceptor1 = new TestInterceptor() {
+
+            @Override
+            public String run(ChannelInvocation<TestInterceptor> invocation, String[] testArguments) {
+
+                return invocation.next().run(invocation, testArguments) + "1";
+            };
+
+        };
+        TestInterceptor interceptor0 = new TestInterceptor() {
+
+            @Override
+            public String run(ChannelInvocation<TestInterceptor> invocation, String[] testArguments) {
+
+                return "0";
+            };
+
+        };
+
+        channel.addInterceptor(interceptor0, 0);
+
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final AtomicReference<String> unexpectedResult = new AtomicReference<>();
+        Thread[] invokers = new Thread[4];
+        for (int index = 0; index < invokers.length; index++) {
+            invokers[index] = new Thread() {
+
+                @Override
+                public void run() {
+
+                    while (running.get()) {
+                        ChannelInvocation<TestInterceptor> invocation = channel.invoke();
+                        String result = invocation.next().run(invocation, null);
+
+                        if (!result.equals("0") && !result.equals("01")) {
+                            unexpectedResult.set(result);
+                        }
+                    }
+                }
+
+            };
+            invokers[index].start();
+        }
+
+        for (int iteration = 0; iteration < 10000; iteration++) {
+            channel.addInterceptor(interceptor1, 1);
+            channel.removeInterceptor(interceptor1);
+        }
+
+        running.set(false);
+        for (Thread invoker : invokers) {
+            invoker.join();
+        }
+
+        assertNull("Unexpected value that was returned by the channel", unexpectedResult.get());
+    }
+
     @Test (expected = IllegalArgumentException.class)
     public void testAddInterceptorsWithSamePriority() {
 
@@ -174,4 +325,29 @@ public class ChannelTest {
         channel.addInterceptor(context.mock(TestInterceptor.class, "interceptor2"), 0);
     }
 
+    private static class FilteringTestInterceptor implements TestInterceptor, FilteringInterceptor {
+
+        private final String     suffix;
+        private final Class<?>[] filterTypes;
+
+        private FilteringTestInterceptor(String suffix, Class<?>... filterTypes) {
+
+            this.suffix = suffix;
+            this.filterTypes = filterTypes;
+        }
+
+        @Override
+        public Class<?>[] getFilterTypes() {
+
+            return filterTypes;
+        }
+
+        @Override
+        public String run(ChannelInvocation<TestInterceptor> invocation, String[] testArguments) {
+
+            return invocation.next().run(invocation, testArguments) + suffix;
+        }
+
+    }
+
 }
@@ -0,0 +1,204 @@
+/*
+ * This file is part of EventBridge.
+ * Copyright (c) 2014 QuarterCode <http://www.quartercode.com/>
+ *
+ * EventBridge is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of
+ * the License, or (at your option) any later version.
+ *
+ * EventBridge is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EventBridge. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.quartercode.eventbridge.test.def.extra.bridge;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import com.quartercode.eventbridge.bridge.Event;
+import com.quartercode.eventbridge.bridge.module.EventHandler;
+import com.quartercode.eventbridge.bridge.module.StandardHandlerModule;
+import com.quartercode.eventbridge.def.extra.bridge.DefaultRingBufferBridge;
+import com.quartercode.eventbridge.extra.predicate.TypePredicate;
+import com.quartercode.eventbridge.test.DummyEvents.EmptyEvent1;
+import com.quartercode.eventbridge.test.DummyEvents.EmptyEvent2;
+
+public class DefaultRingBufferBridgeTest {
+
+    private DefaultRingBufferBridge bridge;
+
+    @Before
+    public void setUp() {
+
+        bridge = new DefaultRingBufferBridge(8);
+    }
+
+    @After
+    public void tearDown() {
+
+        bridge.shutdown();
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testConstructInvalidCapacity() {
+
+        new DefaultRingBufferBridge(12);
+    }
+
+    @Test
+    public void testGetCapacity() {
+
+        assertEquals("Capacity", 8, bridge.getCapacity());
+    }
+
+    @Test
+    public void testSendInOrder() throws InterruptedException {
+
+        final List<Event> handledEvents = Collections.synchronizedList(new ArrayList<Event>());
+        addHandler(EmptyEvent1.class, new EventHandler<EmptyEvent1>() {
+
+            @Override
+            public void handle(EmptyEvent1 event) {
+
+                handledEvents.add(event);
+            }
+
+        });
+
+        List<Event> events = new ArrayList<>();
+        for (int counter = 0; counter < 100; counter++) {
+            EmptyEvent1 event = new EmptyEvent1();
+            events.add(event);
+            bridge.send(event);
+        }
+
+        shutdownAndWait();
+        assertEquals("Handled events", events, handledEvents);
+    }
+
+    @Test
+    public void testHandleConcurrently() throws InterruptedException {
+
+        final Thread testThread = Thread.currentThread();
+        final AtomicInteger handledEvents = new AtomicInteger();
+        final AtomicInteger handledOnProducerThread = new AtomicInteger();
+        addHandler(EmptyEvent1.class, new EventHandler<EmptyEvent1>() {
+
+            @Override
+            public void handle(EmptyEvent1 event) {
+
+                handledEvents.incrementAndGet();
+                if (Thread.currentThread() == testThread || Thread.currentThread().getName().startsWith("Producer")) {
+                    handledOnProducerThread.incrementAndGet();
+                }
+            }
+
+        });
+
+        final int producerCount = 4;
+        final int eventsPerProducer = 1000;
+
+        List<Thread> producers = new ArrayList<>();
+        for (int producer = 0; producer < producerCount; producer++) {
+            Thread thread = new Thread(new Runnable() {
+
+                @Override
+                public void run() {
+
+                    for (int counter = 0; counter < eventsPerProducer; counter++) {
+                        bridge.handle(new EmptyEvent1(), null);
+                    }
+                }
+
+            }, "Producer " + producer);
+            producers.add(thread);
+            thread.start();
+        }
+
+        // Also handle a batch which is larger than the ring buffer
+        List<Event> batch = new ArrayList<>();
+        for (int counter = 0; counter < 20; counter++) {
+            batch.add(new EmptyEvent1());
+        }
+        bridge.handle(batch, null);
+
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        shutdownAndWait();
+        assertEquals("Handled events", producerCount * eventsPerProducer + batch.size(), handledEvents.get());
+        assertEquals("Events handled on a producer thread", 0, handledOnProducerThread.get());
+    }
+
+    @Test
+    public void testHandleFromConsumerThread() throws InterruptedException {
+
+        final AtomicInteger handledEvents = new AtomicInteger();
+        addHandler(EmptyEvent1.class, new EventHandler<EmptyEvent1>() {
+
+            @Override
+            public void handle(EmptyEvent1 event) {
+
+                // Send more events than the ring buffer can hold; that must not block the consumer thread
+                for (int counter = 0; counter < bridge.getCapacity() * 2; counter++) {
+                    bridge.send(new EmptyEvent2());
+                }
+            }
+
+        });
+        addHandler(EmptyEvent2.class, new EventHandler<EmptyEvent2>() {
+
+            @Override
+            public void handle(EmptyEvent2 event) {
+
+                handledEvents.incrementAndGet();
+            }
+
+        });
+
+        bridge.send(new EmptyEvent1());
+
+        shutdownAndWait();
+        assertEquals("Handled events", bridge.getCapacity() * 2, handledEvents.get());
+    }
+
+    @Test (expected = IllegalStateException.class)
+    public void testHandleAfterShutdown() {
+
+        bridge.shutdown();
+        bridge.handle(new EmptyEvent1(), null);
+    }
+
+    @Test
+    public void testAwaitTerminationWithoutShutdown() throws InterruptedException {
+
+        assertFalse("Consumer thread terminated without shutdown", bridge.awaitTermination(10, TimeUnit.MILLISECONDS));
+    }
+
+    private <T extends Event> void addHandler(Class<T> type, EventHandler<T> handler) {
+
+        bridge.getModule(StandardHandlerModule.class).addHandler(handler, new TypePredicate<>(type));
+    }
+
+    private void shutdownAndWait() throws InterruptedException {
+
+        bridge.shutdown();
+        assertTrue("Consumer thread didn't terminate in time", bridge.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+}
@@ -0,0 +1,183 @@
+/*
+ * This file is part of EventBridge.
+ * Copyright (c) 2014 QuarterCode <http://www.quartercode.com/>
+ *
+ * EventBridge is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of
+ * the License, or (at your option) any later version.
+ *
+ * EventBridge is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EventBridge. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.quartercode.eventbridge.test.def.extra.extension;
+
+import static com.quartercode.eventbridge.test.ExtraActions.storeArgument;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import com.quartercode.eventbridge.bridge.Bridge;
+import com.quartercode.eventbridge.bridge.BridgeConnector;
+import com.quartercode.eventbridge.bridge.module.HandlerModule;
+import com.quartercode.eventbridge.bridge.module.HandlerModule.HandleInterceptor;
+import com.quartercode.eventbridge.channel.Channel;
+import com.quartercode.eventbridge.channel.ChannelInvocation;
+import com.quartercode.eventbridge.def.channel.DefaultChannel;
+import com.quartercode.eventbridge.def.extra.extension.DefaultAsyncDispatchExtension;
+import com.quartercode.eventbridge.test.DummyEvents.EmptyEvent1;
+
+public class DefaultAsyncDispatchExtensionTest {
+
+    @Rule
+    public JUnitRuleMockery                          context         = new JUnitRuleMockery();
+
+    @Mock
+    private Bridge                                   bridge;
+    @Mock
+    private HandlerModule                            handlerModule;
+    @Mock
+    private Channel<HandleInterceptor>               handlerModuleChannel;
+
+    private QueueExecutor                            executor;
+    private DefaultAsyncDispatchExtension            extension;
+    private final AtomicReference<HandleInterceptor> hookInterceptor = new AtomicReference<>();
+
+    @Before
+    public void setUp() {
+
+        executor = new QueueExecutor();
+        extension = new DefaultAsyncDispatchExtension(executor);
+
+        // @formatter:off
+        context.checking(new Expectations() {{
+
+            allowing(bridge).getModule(HandlerModule.class);
+                will(returnValue(handlerModule));
+            allowing(handlerModule).getChannel();
+                will(returnValue(handlerModuleChannel));
+
+            // The extension should add a hook to the handler module's channel
+            oneOf(handlerModuleChannel).addInterceptor(with(any(HandleInterceptor.class)), with(1000));
+                will(storeArgument(0).in(hookInterceptor));
+
+        }});
+        // @formatter:on
+
+        extension.add(bridge);
+    }
+
+    @Test
+    public void testRemove() {
+
+        // @formatter:off
+        context.checking(new Expectations() {{
+
+            // The extension should remove its hook from the handler module's channel
+            oneOf(handlerModuleChannel).removeInterceptor(with(any(HandleInterceptor.class)));
+
+        }});
+        // @formatter:on
+
+        extension.remove();
+    }
+
+    @Test
+    public void testSendAsync() {
+
+        final EmptyEvent1 event = new EmptyEvent1();
+
+        Future<?> future = extension.sendAsync(event);
+        assertFalse("Future was completed although the executor didn't run yet", future.isDone());
+
+        // @formatter:off
+        context.checking(new Expectations() {{
+
+            // The executor should send the event through the bridge
+            oneOf(bridge).send(event);
+
+        }});
+        // @formatter:on
+
+        executor.runAll();
+        assertTrue("Future wasn't completed although the executor ran", future.isDone());
+    }
+
+    @SuppressWarnings ("unchecked")
+    @Test
+    public void testHandlerModuleHook() {
+
+        final BridgeConnector source = context.mock(BridgeConnector.class);
+        final EmptyEvent1 remoteEvent = new EmptyEvent1();
+        final EmptyEvent1 localEvent = new EmptyEvent1();
+
+        // Create a dummy channel for the hook interceptor
+        Channel<HandleInterceptor> dummyChannel = new DefaultChannel<>(HandleInterceptor.class);
+        dummyChannel.addInterceptor(hookInterceptor.get(), 1);
+        final HandleInterceptor lastInterceptor = context.mock(HandleInterceptor.class);
+        dummyChannel.addInterceptor(lastInterceptor, 0);
+
+        // @formatter:off
+        context.checking(new Expectations() {{
+
+            // Local events should be handled synchronously
+            oneOf(lastInterceptor).handle(with(any(ChannelInvocation.class)), with(localEvent), with(aNull(BridgeConnector.class)));
+
+        }});
+        // @formatter:on
+
+        ChannelInvocation<HandleInterceptor> localInvocation = dummyChannel.invoke();
+        localInvocation.next().handle(localInvocation, localEvent, null);
+
+        // Remote events should not be handled until the executor runs
+        ChannelInvocation<HandleInterceptor> remoteInvocation = dummyChannel.invoke();
+        remoteInvocation.next().handle(remoteInvocation, remoteEvent, source);
+
+        // @formatter:off
+        context.checking(new Expectations() {{
+
+            oneOf(lastInterceptor).handle(with(any(ChannelInvocation.class)), with(remoteEvent), with(source));
+
+        }});
+        // @formatter:on
+
+        executor.runAll();
+    }
+
+    private static class QueueExecutor implements Executor {
+
+        private final List<Runnable> tasks = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable task) {
+
+            tasks.add(task);
+        }
+
+        private void runAll() {
+
+            for (Runnable task : tasks) {
+                task.run();
+            }
+
+            tasks.clear();
+        }
+
+    }
+
+}
@@ -21,7 +21,11 @@ package com.quartercode.eventbridge.test.def.extra.extension;
 import static com.quartercode.eventbridge.test.ExtraActions.storeArgument;
 import static com.quartercode.eventbridge.test.ExtraAssert.assertMapEquals;
 import static com.quartercode.eventbridge.test.ExtraMatchers.aLowLevelHandlerWithThePredicate;
+import static com.quartercode.eventbridge.test.ExtraMatchers.lowLevelHandlersWithThePredicates;
 import static org.junit.Assert.assertTrue;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
@@ -101,8 +105,7 @@ public class DefaultReturnEventExtensionReturnerTest {
             oneOf(lowLevelHandlerModule).addHandler(with(aLowLevelHandlerWithThePredicate(wrapperPredicate1)));
             oneOf(lowLevelHandlerModule).addHandler(with(aLowLevelHandlerWithThePredicate(wrapperPredicate2)));
             // Automatic removal
-            oneOf(lowLevelHandlerModule).removeHandler(with(aLowLevelHandlerWithThePredicate(wrapperPredicate1)));
-            oneOf(lowLevelHandlerModule).removeHandler(with(aLowLevelHandlerWithThePredicate(wrapperPredicate2)));
+            oneOf(lowLevelHandlerModule).removeHandlers(with(lowLevelHandlersWithThePredicates(wrapperPredicate1, wrapperPredicate2)));
 
         }});
         // @formatter:on
@@ -172,6 +175,42 @@ public class DefaultReturnEventExtensionReturnerTest {
         assertTrue("Handlers that are stored inside the module changed on the second retrieval", extension.getRequestHandlers().isEmpty());
     }
 
+    @SuppressWarnings ("unchecked")
+    @Test
+    public void testRequestHandlerStorageBatch() {
+
+        RequestEventHandler<EmptyEvent1> handler1 = context.mock(RequestEventHandler.class, "handler1");
+        RequestEventHandler<EmptyEvent2> handler2 = context.mock(RequestEventHandler.class, "handler2");
+        final EventPredicate<EmptyEvent1> predicate1 = context.mock(EventPredicate.class, "predicate1");
+        final EventPredicate<EmptyEvent2> predicate2 = context.mock(EventPredicate.class, "predicate2");
+
+        final EventPredicate<?> wrapperPredicate1 = new ReturnEventExtensionWrapperPredicate(predicate1);
+        final EventPredicate<?> wrapperPredicate2 = new ReturnEventExtensionWrapperPredicate(predicate2);
+
+        Map<RequestEventHandler<?>, EventPredicate<?>> handlers = new LinkedHashMap<>();
+        handlers.put(handler1, predicate1);
+        handlers.put(handler2, predicate2);
+
+        // @formatter:off
+        context.checking(new Expectations() {{
+
+            final Sequence handlerListModifications = context.sequence("handlerListModifications");
+            oneOf(lowLevelHandlerModule).addHandlers(with(lowLevelHandlersWithThePredicates(wrapperPredicate1, wrapperPredicate2))); inSequence(handlerListModifications);
+            oneOf(lowLevelHandlerModule).removeHandlers(with(lowLevelHandlersWithThePredicates(wrapperPredicate1, wrapperPredicate2))); inSequence(handlerListModifications);
+
+        }});
+        // @formatter:on
+
+        extension.addRequestHandlers(handlers);
+        assertMapEquals("Request handlers that are stored inside the module", extension.getRequestHandlers(), Pair.of(handler1, predicate1), Pair.of(handler2, predicate2));
+
+        extension.removeRequestHandlers(Arrays.asList(handler1, handler2));
+        assertTrue("There are request handlers stored inside the module after all were removed", extension.getRequestHandlers().isEmpty());
+
+        // Removing unknown request handlers mustn't reach the low-level handler module
+        extension.removeRequestHandlers(Arrays.asList(handler1));
+    }
+
     @SuppressWarnings ("unchecked")
     @Test
     public void testRequestHandlerStorageListeners() {
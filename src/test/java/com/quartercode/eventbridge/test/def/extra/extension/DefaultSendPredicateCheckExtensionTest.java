@@ -18,9 +18,17 @@
 
 package com.quartercode.eventbridge.test.def.extra.extension;
 
+import static com.quartercode.eventbridge.test.ExtraActions.storeArgument;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import org.apache.commons.lang3.tuple.Pair;
 import org.jmock.Expectations;
 import org.jmock.auto.Mock;
@@ -28,6 +36,7 @@ import org.jmock.integration.junit4.JUnitRuleMockery;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import com.quartercode.eventbridge.basic.EventPredicateBase;
 import com.quartercode.eventbridge.bridge.Bridge;
 import com.quartercode.eventbridge.bridge.BridgeConnector;
 import com.quartercode.eventbridge.bridge.BridgeConnectorException;
@@ -42,6 +51,7 @@ import com.quartercode.eventbridge.channel.ChannelInvocation;
 import com.quartercode.eventbridge.def.bridge.DefaultBridge;
 import com.quartercode.eventbridge.def.extra.extension.DefaultSendPredicateCheckExtension;
 import com.quartercode.eventbridge.extra.connector.LocalBridgeConnector;
+import com.quartercode.eventbridge.extra.extension.SendPredicateCheckExtension;
 import com.quartercode.eventbridge.extra.predicate.TypePredicate;
 import com.quartercode.eventbridge.test.DummyEvents.EmptyEvent1;
 import com.quartercode.eventbridge.test.DummyEvents.EmptyEvent2;
@@ -155,6 +165,20 @@ public class DefaultSendPredicateCheckExtensionTest {
         bridge1.addConnector(bridge1To3Connector);
     }
 
+    private void expectInternalEventsFromBridge2(final int count) {
+
+        final SpecificConnectorSendInterceptor bridge2Interceptor = context.mock(SpecificConnectorSendInterceptor.class, "bridge2Interceptor");
+        bridge2.getModule(ConnectorSenderModule.class).getSpecificChannel().addInterceptor(new DummySpecificConnectorSendInterceptor(bridge2Interceptor), 1);
+
+        // @formatter:off
+        context.checking(new Expectations() {{
+
+            exactly(count).of(bridge2Interceptor).send(with(any(ChannelInvocation.class)), with(any(INTERNAL_EVENT_TYPE)), with(any(BridgeConnector.class)));
+
+        }});
+        // @formatter:on
+    }
+
     private void removeExtensions() {
 
         bridge1.removeModule(bridge1Extension);
@@ -256,6 +280,71 @@ public class DefaultSendPredicateCheckExtensionTest {
         afterCustomActions(data);
     }
 
+    @Test
+    public void testOneBridgeAddHandlerBatchBeforeConnect() throws BridgeConnectorException {
+
+        Event[] data = beforeCustomActions(pair(bridge1To2Connector, EmptyEvent1.class, EmptyEvent2.class));
+
+        bridge2.getModule(LowLevelHandlerModule.class).addHandlers(Arrays.asList(new EmptyLowLevelHandler(new TypePredicate<>(EmptyEvent1.class)), new EmptyLowLevelHandler(new TypePredicate<>(EmptyEvent2.class))));
+        connect();
+
+        afterCustomActions(data);
+    }
+
+    @Test
+    public void testOneBridgeAddHandlerBatchAfterConnect() throws BridgeConnectorException {
+
+        Event[] data = beforeCustomActions(pair(bridge1To2Connector, EmptyEvent1.class, EmptyEvent2.class));
+
+        connect();
+        bridge2.getModule(LowLevelHandlerModule.class).addHandlers(Arrays.asList(new EmptyLowLevelHandler(new TypePredicate<>(EmptyEvent1.class)), new EmptyLowLevelHandler(new TypePredicate<>(EmptyEvent2.class))));
+
+        afterCustomActions(data);
+    }
+
+    @Test
+    public void testOneBridgeRemoveHandlerBatchAfterConnect() throws BridgeConnectorException {
+
+        Event[] data = beforeCustomActions(pair(bridge1To2Connector, EmptyEvent2.class));
+
+        List<LowLevelHandler> handlers = Arrays.<LowLevelHandler> asList(new EmptyLowLevelHandler(new TypePredicate<>(EmptyEvent1.class)), new EmptyLowLevelHandler(new TypePredicate<>(EmptyEvent2.class)), new EmptyLowLevelHandler(new TypePredicate<>(EmptyEvent3.class)));
+
+        connect();
+        bridge2.getModule(LowLevelHandlerModule.class).addHandlers(handlers);
+        bridge2.getModule(LowLevelHandlerModule.class).removeHandlers(Arrays.asList(handlers.get(0), handlers.get(2)));
+
+        afterCustomActions(data);
+    }
+
+    @Test
+    public void testOneBridgeAddHandlerOpaquePredicateAfterConnect() throws BridgeConnectorException {
+
+        // The opaque predicate isn't covered by the class cache and must be tested for every event
+        Event[] data = beforeCustomActions(pair(bridge1To2Connector, EmptyEvent1.class, EmptyEvent3.class));
+
+        connect();
+        bridge2.getModule(LowLevelHandlerModule.class).addHandler(new EmptyLowLevelHandler(new TypePredicate<>(EmptyEvent1.class)));
+        bridge2.getModule(LowLevelHandlerModule.class).addHandler(new EmptyLowLevelHandler(new ClassNameSuffixPredicate("3")));
+
+        afterCustomActions(data);
+    }
+
+    @Test
+    public void testOneBridgeAddHandlerAfterSending() throws BridgeConnectorException {
+
+        connect();
+        bridge2.getModule(LowLevelHandlerModule.class).addHandler(new EmptyLowLevelHandler(new TypePredicate<>(EmptyEvent1.class)));
+
+        Event[] data1 = beforeCustomActions(pair(bridge1To2Connector, EmptyEvent1.class));
+        afterCustomActions(data1);
+
+        // The class cache of the remote predicates must be invalidated when new predicates arrive
+        bridge2.getModule(LowLevelHandlerModule.class).addHandler(new EmptyLowLevelHandler(new TypePredicate<>(EmptyEvent2.class)));
+
+        Event[] data2 = beforeCustomActions(pair(bridge1To2Connector, EmptyEvent1.class, EmptyEvent2.class));
+        afterCustomActions(data2);
+    }
+
     @Test
     public void testOneBridgeRemoveHandlerBeforeConnect() throws BridgeConnectorException {
 
@@ -286,6 +375,232 @@ public class DefaultSendPredicateCheckExtensionTest {
         afterCustomActions(data);
     }
 
+    @Test
+    public void testOneBridgeRemoveAllHandlersAfterConnect() throws BridgeConnectorException {
+
+        Event[] data = beforeCustomActions();
+
+        connect();
+
+        EmptyLowLevelHandler removeHandler = new EmptyLowLevelHandler(new TypePredicate<>(EmptyEvent1.class));
+        bridge2.getModule(LowLevelHandlerModule.class).addHandler(removeHandler);
+        bridge2.getModule(LowLevelHandlerModule.class).removeHandler(removeHandler);
+
+        afterCustomActions(data);
+    }
+
+    @Test
+    public void testOneBridgeWithoutExtension() throws BridgeConnectorException {
+
+        // Bridge 2 never sends any predicates, so it isn't interested in any event
+        Event[] data = beforeCustomActions(pair(bridge1To3Connector, EmptyEvent1.class));
+
+        bridge2.removeModule(bridge2Extension);
+        bridge2.getModule(LowLevelHandlerModule.class).addHandler(new EmptyLowLevelHandler(new TypePredicate<>(EmptyEvent1.class)));
+        bridge3.getModule(LowLevelHandlerModule.class).addHandler(new EmptyLowLevelHandler(new TypePredicate<>(EmptyEvent1.class)));
+
+        connect();
+
+        afterCustomActions(data);
+    }
+
+    @Test
+    public void testOneBridgeRemoveHandlerSamePredicateAfterConnect() throws BridgeConnectorException {
+
+        connect();
+        bridge2.getModule(LowLevelHandlerModule.class).addHandler(new EmptyLowLevelHandler(new TypePredicate<>(EmptyEvent2.class)));
+
+        // Both handlers share one remote predicate, which must stay until the last handler is removed
+        EmptyLowLevelHandler handler1 = new EmptyLowLevelHandler(new TypePredicate<>(EmptyEvent1.class));
+        EmptyLowLevelHandler handler2 = new EmptyLowLevelHandler(new TypePredicate<>(EmptyEvent1.class));
+        bridge2.getModule(LowLevelHandlerModule.class).addHandler(handler1);
+        bridge2.getModule(LowLevelHandlerModule.class).addHandler(handler2);
+        bridge2.getModule(LowLevelHandlerModule.class).removeHandler(handler1);
+
+        Event[] data1 = beforeCustomActions(pair(bridge1To2Connector, EmptyEvent1.class, EmptyEvent2.class));
+        afterCustomActions(data1);
+
+        bridge2.getModule(LowLevelHandlerModule.class).removeHandler(handler2);
+
+        Event[] data2 = beforeCustomActions(pair(bridge1To2Connector, EmptyEvent2.class));
+        afterCustomActions(data2);
+    }
+
+    @Test
+    public void testOneBridgeRemoveHandlerAfterOtherConnect() throws BridgeConnectorException {
+
+        Event[] data = beforeCustomActions(pair(bridge1To2Connector, EmptyEvent2.class));
+
+        bridge2.getModule(LowLevelHandlerModule.class).addHandler(new EmptyLowLevelHandler(new TypePredicate<>(EmptyEvent2.class)));
+        EmptyLowLevelHandler removeHandler = new EmptyLowLevelHandler(new TypePredicate<>(EmptyEvent1.class));
+        bridge2.getModule(LowLevelHandlerModule.class).addHandler(removeHandler);
+        connect();
+
+        // Connecting bridge 2 to another bridge must not send its predicates to bridge 1 again
+        bridge2.addConnector(new LocalBridgeConnector(new DefaultBridge()));
+        bridge2.getModule(LowLevelHandlerModule.class).removeHandler(removeHandler);
+
+        afterCustomActions(data);
+    }
+
+    @Test
+    public void testOneBridgeReplaceExtensionAfterConnect() throws BridgeConnectorException {
+
+        Event[] data = beforeCustomActions(pair(bridge1To2Connector, EmptyEvent2.class, EmptyEvent3.class));
+
+        connect();
+
+        EmptyLowLevelHandler removeHandler = new EmptyLowLevelHandler(new TypePredicate<>(EmptyEvent1.class));
+        bridge2.getModule(LowLevelHandlerModule.class).addHandler(removeHandler);
+        bridge2.getModule(LowLevelHandlerModule.class).removeHandler(removeHandler);
+        bridge2.getModule(LowLevelHandlerModule.class).addHandler(new EmptyLowLevelHandler(new TypePredicate<>(EmptyEvent2.class)));
+
+        // The new extension reuses the predicate ids of the old one
+        bridge2.removeModule(bridge2Extension);
+        bridge2Extension = new DefaultSendPredicateCheckExtension();
+        bridge2.addModule(bridge2Extension);
+
+        bridge2.getModule(LowLevelHandlerModule.class).addHandler(new EmptyLowLevelHandler(new TypePredicate<>(EmptyEvent3.class)));
+
+        afterCustomActions(data);
+    }
+
+    @Test
+    public void testOneBridgeReplaceSendingExtensionAfterConnect() throws BridgeConnectorException {
+
+        Event[] data = beforeCustomActions(pair(bridge1To2Connector, EmptyEvent1.class));
+
+        connect();
+        bridge2.getModule(LowLevelHandlerModule.class).addHandler(new EmptyLowLevelHandler(new TypePredicate<>(EmptyEvent1.class)));
+
+        // The new extension must ask bridge 2 for its predicates again
+        bridge1.removeModule(bridge1Extension);
+        bridge1Extension = new DefaultSendPredicateCheckExtension();
+        bridge1.addModule(bridge1Extension);
+
+        afterCustomActions(data);
+    }
+
+    @Test
+    public void testOneBridgeAddExtensionAfterConnect() throws BridgeConnectorException {
+
+        Event[] data = beforeCustomActions(pair(bridge1To2Connector, EmptyEvent1.class));
+
+        bridge2.removeModule(bridge2Extension);
+        connect();
+
+        // The handler which exists before the extension is added must be defined to bridge 1
+        EmptyLowLevelHandler removeHandler = new EmptyLowLevelHandler(new TypePredicate<>(EmptyEvent1.class));
+        bridge2.getModule(LowLevelHandlerModule.class).addHandler(removeHandler);
+        bridge2Extension = new DefaultSendPredicateCheckExtension();
+        bridge2.addModule(bridge2Extension);
+
+        // Only the id of the already defined predicate is sent from now on
+        bridge2.getModule(LowLevelHandlerModule.class).addHandler(new EmptyLowLevelHandler(new TypePredicate<>(EmptyEvent1.class)));
+        bridge2.getModule(LowLevelHandlerModule.class).removeHandler(removeHandler);
+
+        afterCustomActions(data);
+    }
+
+    @Test
+    public void testOneBridgePredicateUpdateAfterConnect() throws BridgeConnectorException {
+
+        Event[] data = beforeCustomActions(pair(bridge1To2Connector, EmptyEvent1.class, EmptyEvent3.class));
+
+        connect();
+        expectInternalEventsFromBridge2(1);
+
+        bridge2Extension.beginPredicateUpdate();
+        bridge2.getModule(LowLevelHandlerModule.class).addHandler(new EmptyLowLevelHandler(new TypePredicate<>(EmptyEvent1.class)));
+        EmptyLowLevelHandler removeHandler = new EmptyLowLevelHandler(new TypePredicate<>(EmptyEvent2.class));
+        bridge2.getModule(LowLevelHandlerModule.class).addHandler(removeHandler);
+        // Nested predicate updates don't send anything
+        bridge2Extension.beginPredicateUpdate();
+        bridge2.getModule(LowLevelHandlerModule.class).removeHandler(removeHandler);
+        bridge2.getModule(LowLevelHandlerModule.class).addHandler(new EmptyLowLevelHandler(new TypePredicate<>(EmptyEvent3.class)));
+        bridge2Extension.endPredicateUpdate();
+        bridge2Extension.endPredicateUpdate();
+
+        afterCustomActions(data);
+    }
+
+    @Test
+    public void testOneBridgePredicateUpdateCancelledAfterConnect() throws BridgeConnectorException {
+
+        Event[] data = beforeCustomActions();
+
+        connect();
+        expectInternalEventsFromBridge2(0);
+
+        bridge2Extension.beginPredicateUpdate();
+        EmptyLowLevelHandler removeHandler = new EmptyLowLevelHandler(new TypePredicate<>(EmptyEvent1.class));
+        bridge2.getModule(LowLevelHandlerModule.class).addHandler(removeHandler);
+        bridge2.getModule(LowLevelHandlerModule.class).removeHandler(removeHandler);
+        bridge2Extension.endPredicateUpdate();
+
+        afterCustomActions(data);
+    }
+
+    @Test
+    public void testOneBridgePredicateUpdateConnectDuringUpdate() throws BridgeConnectorException {
+
+        Event[] data = beforeCustomActions(pair(bridge1To2Connector, EmptyEvent1.class, EmptyEvent2.class));
+
+        bridge2.getModule(LowLevelHandlerModule.class).addHandler(new EmptyLowLevelHandler(new TypePredicate<>(EmptyEvent1.class)));
+
+        // The pending changes must not be sent twice to the new connector
+        bridge2Extension.beginPredicateUpdate();
+        EmptyLowLevelHandler removeHandler = new EmptyLowLevelHandler(new TypePredicate<>(EmptyEvent3.class));
+        bridge2.getModule(LowLevelHandlerModule.class).addHandler(removeHandler);
+        bridge2.getModule(LowLevelHandlerModule.class).addHandler(new EmptyLowLevelHandler(new TypePredicate<>(EmptyEvent2.class)));
+        connect();
+        bridge2.getModule(LowLevelHandlerModule.class).removeHandler(removeHandler);
+        bridge2Extension.endPredicateUpdate();
+
+        afterCustomActions(data);
+    }
+
+    @Test (expected = IllegalStateException.class)
+    public void testEndPredicateUpdateWithoutBegin() {
+
+        bridge2Extension.endPredicateUpdate();
+    }
+
+    @Test
+    public void testOneBridgeFlushDelayAfterConnect() throws BridgeConnectorException {
+
+        final ScheduledExecutorService flushExecutor = context.mock(ScheduledExecutorService.class);
+        final AtomicReference<Runnable> flushTask = new AtomicReference<>();
+
+        // @formatter:off
+        context.checking(new Expectations() {{
+
+            // Only one flush should be scheduled for all changes
+            oneOf(flushExecutor).schedule(with(any(Runnable.class)), with(10L), with(TimeUnit.MILLISECONDS));
+                will(storeArgument(0).in(flushTask));
+
+        }});
+        // @formatter:on
+
+        bridge2.removeModule(bridge2Extension);
+        bridge2Extension = new DefaultSendPredicateCheckExtension(flushExecutor, 10, TimeUnit.MILLISECONDS);
+        bridge2.addModule(bridge2Extension);
+
+        connect();
+
+        bridge2.getModule(LowLevelHandlerModule.class).addHandler(new EmptyLowLevelHandler(new TypePredicate<>(EmptyEvent1.class)));
+        EmptyLowLevelHandler removeHandler = new EmptyLowLevelHandler(new TypePredicate<>(EmptyEvent2.class));
+        bridge2.getModule(LowLevelHandlerModule.class).addHandler(removeHandler);
+        bridge2.getModule(LowLevelHandlerModule.class).removeHandler(removeHandler);
+
+        // The changes haven't been sent yet
+        afterCustomActions(beforeCustomActions());
+
+        Event[] data = beforeCustomActions(pair(bridge1To2Connector, EmptyEvent1.class));
+        flushTask.get().run();
+        afterCustomActions(data);
+    }
+
     // ----- Two Bridges Filtering Tests -----
 
     @Test
@@ -474,6 +789,199 @@ public class DefaultSendPredicateCheckExtensionTest {
         afterCustomActions(data);
     }
 
+    @Test
+    public void testConcurrentSendAndPredicateChanges() throws BridgeConnectorException, InterruptedException {
+
+        // Don't use the mocked interceptor because the mockery isn't thread-safe
+        final Bridge sender = new DefaultBridge();
+        Bridge receiver = new DefaultBridge();
+        DefaultSendPredicateCheckExtension receiverExtension = new DefaultSendPredicateCheckExtension();
+        sender.addModule(new DefaultSendPredicateCheckExtension());
+        receiver.addModule(receiverExtension);
+
+        CountingSpecificConnectorSendInterceptor event1Counter = new CountingSpecificConnectorSendInterceptor(EmptyEvent1.class);
+        CountingSpecificConnectorSendInterceptor event2Counter = new CountingSpecificConnectorSendInterceptor(EmptyEvent2.class);
+        CountingSpecificConnectorSendInterceptor event3Counter = new CountingSpecificConnectorSendInterceptor(EmptyEvent3.class);
+        CountingSpecificConnectorSendInterceptor event4Counter = new CountingSpecificConnectorSendInterceptor(EmptyEvent4.class);
+        sender.getModule(ConnectorSenderModule.class).getSpecificChannel().addInterceptor(event1Counter, 1);
+        sender.getModule(ConnectorSenderModule.class).getSpecificChannel().addInterceptor(event2Counter, 2);
+        sender.getModule(ConnectorSenderModule.class).getSpecificChannel().addInterceptor(event3Counter, 3);
+        sender.getModule(ConnectorSenderModule.class).getSpecificChannel().addInterceptor(event4Counter, 4);
+
+        LowLevelHandlerModule receiverHandlers = receiver.getModule(LowLevelHandlerModule.class);
+        receiverHandlers.addHandler(new EmptyLowLevelHandler(new TypePredicate<>(EmptyEvent1.class)));
+        LowLevelHandler event4Handler = new EmptyLowLevelHandler(new TypePredicate<>(EmptyEvent4.class));
+        receiverHandlers.addHandler(event4Handler);
+        sender.addConnector(new LocalBridgeConnector(receiver));
+
+        final int sendsPerThread = 10000;
+        final AtomicReference<Throwable> senderError = new AtomicReference<>();
+        Thread[] senders = new Thread[4];
+        for (int index = 0; index < senders.length; index++) {
+            senders[index] = new Thread() {
+
+                @Override
+                public void run() {
+
+                    try {
+                        for (int send = 0; send < sendsPerThread; send++) {
+                            sender.send(new EmptyEvent1());
+                            sender.send(new EmptyEvent2());
+                            sender.send(new EmptyEvent3());
+                            sender.send(new EmptyEvent4());
+                        }
+                    } catch (Throwable e) {
+                        senderError.set(e);
+                    }
+                }
+
+            };
+            senders[index].start();
+        }
+
+        for (int iteration = 0; iteration < 1000; iteration++) {
+            LowLevelHandler typeHandler = new EmptyLowLevelHandler(new TypePredicate<>(EmptyEvent2.class));
+            LowLevelHandler opaqueHandler = new EmptyLowLevelHandler(new ClassNameSuffixPredicate("3"));
+            receiverHandlers.addHandlers(Arrays.asList(typeHandler, opaqueHandler));
+            receiverHandlers.removeHandler(typeHandler);
+            receiverHandlers.removeHandler(opaqueHandler);
+
+            // Swap the type predicate for EmptyEvent4 with an opaque one (and back) in one delta; both of them match EmptyEvent4
+            receiverExtension.beginPredicateUpdate();
+            receiverHandlers.removeHandler(event4Handler);
+            event4Handler = new EmptyLowLevelHandler(iteration % 2 == 0 ? new ClassNameSuffixPredicate("4") : new TypePredicate<>(EmptyEvent4.class));
+            receiverHandlers.addHandler(event4Handler);
+            receiverExtension.endPredicateUpdate();
+        }
+
+        // Leave one of the changing predicates behind
+        receiverHandlers.addHandler(new EmptyLowLevelHandler(new TypePredicate<>(EmptyEvent2.class)));
+
+        for (Thread senderThread : senders) {
+            senderThread.join();
+        }
+
+        assertNull("Error that occurred while sending concurrently", senderError.get());
+        assertEquals("Number of EmptyEvent1 events sent while the predicates changed", senders.length * sendsPerThread, event1Counter.sentEvents.get());
+        assertEquals("Number of EmptyEvent4 events sent while the predicates changed", senders.length * sendsPerThread, event4Counter.sentEvents.get());
+
+        // The send decisions must match the final remote predicates
+        event1Counter.sentEvents.set(0);
+        event2Counter.sentEvents.set(0);
+        event3Counter.sentEvents.set(0);
+        sender.send(new EmptyEvent1());
+        sender.send(new EmptyEvent2());
+        sender.send(new EmptyEvent3());
+
+        assertEquals("Number of EmptyEvent1 events sent after the predicates changed", 1, event1Counter.sentEvents.get());
+        assertEquals("Number of EmptyEvent2 events sent after the predicates changed", 1, event2Counter.sentEvents.get());
+        assertEquals("Number of EmptyEvent3 events sent after the predicates changed", 0, event3Counter.sentEvents.get());
+    }
+
+    @Test
+    public void testConcurrentExtensionReplacementOnBothSides() throws BridgeConnectorException, InterruptedException {
+
+        // Don't use the mocked interceptor because the mockery isn't thread-safe
+        Bridge sender = new DefaultBridge();
+        Bridge receiver = new DefaultBridge();
+        sender.addModule(new DefaultSendPredicateCheckExtension());
+        receiver.addModule(new DefaultSendPredicateCheckExtension());
+
+        CountingSpecificConnectorSendInterceptor event1Counter = new CountingSpecificConnectorSendInterceptor(EmptyEvent1.class);
+        CountingSpecificConnectorSendInterceptor event2Counter = new CountingSpecificConnectorSendInterceptor(EmptyEvent2.class);
+        sender.getModule(ConnectorSenderModule.class).getSpecificChannel().addInterceptor(event1Counter, 1);
+        sender.getModule(ConnectorSenderModule.class).getSpecificChannel().addInterceptor(event2Counter, 2);
+
+        sender.getModule(LowLevelHandlerModule.class).addHandler(new EmptyLowLevelHandler(new TypePredicate<>(EmptyEvent2.class)));
+        receiver.getModule(LowLevelHandlerModule.class).addHandler(new EmptyLowLevelHandler(new TypePredicate<>(EmptyEvent1.class)));
+        sender.addConnector(new LocalBridgeConnector(receiver));
+
+        // Both new extensions request the predicates of the other side while they hold their own state
+        final AtomicReference<Throwable> replacerError = new AtomicReference<>();
+        Thread[] replacers = { new ExtensionReplacer(sender, replacerError), new ExtensionReplacer(receiver, replacerError) };
+        for (Thread replacer : replacers) {
+            replacer.start();
+        }
+        for (Thread replacer : replacers) {
+            replacer.join(TimeUnit.SECONDS.toMillis(30));
+            assertFalse("Extensions which are replaced on both sides at once are deadlocked", replacer.isAlive());
+        }
+
+        assertNull("Error that occurred while replacing the extensions concurrently", replacerError.get());
+
+        sender.send(new EmptyEvent1());
+        sender.send(new EmptyEvent2());
+        assertEquals("Number of EmptyEvent1 events sent after the extensions were replaced", 1, event1Counter.sentEvents.get());
+        assertEquals("Number of EmptyEvent2 events sent after the extensions were replaced", 0, event2Counter.sentEvents.get());
+    }
+
+    private static class ExtensionReplacer extends Thread {
+
+        private final Bridge                     bridge;
+        private final AtomicReference<Throwable> error;
+
+        private ExtensionReplacer(Bridge bridge, AtomicReference<Throwable> error) {
+
+            this.bridge = bridge;
+            this.error = error;
+        }
+
+        @Override
+        public void run() {
+
+            try {
+                for (int iteration = 0; iteration < 1000; iteration++) {
+                    bridge.removeModule(bridge.getModule(SendPredicateCheckExtension.class));
+                    bridge.addModule(new DefaultSendPredicateCheckExtension());
+                }
+            } catch (Throwable e) {
+                error.set(e);
+            }
+        }
+
+    }
+
+    private static class CountingSpecificConnectorSendInterceptor implements SpecificConnectorSendInterceptor {
+
+        private final Class<? extends Event> eventType;
+        private final AtomicInteger          sentEvents = new AtomicInteger();
+
+        private CountingSpecificConnectorSendInterceptor(Class<? extends Event> eventType) {
+
+            this.eventType = eventType;
+        }
+
+        @Override
+        public void send(ChannelInvocation<SpecificConnectorSendInterceptor> invocation, Event event, BridgeConnector connector) {
+
+            if (event.getClass() == eventType) {
+                sentEvents.incrementAndGet();
+            }
+
+            invocation.next().send(invocation, event, connector);
+        }
+
+    }
+
+    private static class ClassNameSuffixPredicate extends EventPredicateBase<Event> {
+
+        private static final long serialVersionUID = 5937493108224513717L;
+
+        private final String      suffix;
+
+        private ClassNameSuffixPredicate(String suffix) {
+
+            this.suffix = suffix;
+        }
+
+        @Override
+        public boolean test(Event event) {
+
+            return event.getClass().getName().endsWith(suffix);
+        }
+
+    }
+
     private class EmptyLowLevelHandler implements LowLevelHandler {
 
         private final EventPredicate<?> predicate;
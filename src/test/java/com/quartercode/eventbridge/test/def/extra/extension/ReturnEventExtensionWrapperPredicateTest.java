@@ -19,6 +19,7 @@
 package com.quartercode.eventbridge.test.def.extra.extension;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import org.jmock.Expectations;
 import org.jmock.integration.junit4.JUnitRuleMockery;
 import org.junit.Rule;
@@ -27,6 +28,7 @@ import com.quartercode.eventbridge.bridge.Event;
 import com.quartercode.eventbridge.bridge.EventPredicate;
 import com.quartercode.eventbridge.def.extra.extension.ReturnEventExtensionWrapper;
 import com.quartercode.eventbridge.def.extra.extension.ReturnEventExtensionWrapper.ReturnEventExtensionWrapperPredicate;
+import com.quartercode.eventbridge.extra.predicate.TypePredicate;
 import com.quartercode.eventbridge.test.DummyEvents.EmptyEvent1;
 
 public class ReturnEventExtensionWrapperPredicateTest {
@@ -63,4 +65,18 @@ public class ReturnEventExtensionWrapperPredicateTest {
         assertEquals("Result of wrappedPredicate = null and return value false", false, predicateWithFalse.test(event2));
     }
 
+    @SuppressWarnings ("unchecked")
+    @Test
+    public void testBoundTypes() {
+
+        EventPredicate<Event> otherPredicate = context.mock(EventPredicate.class);
+
+        ReturnEventExtensionWrapperPredicate typePredicate = new ReturnEventExtensionWrapperPredicate(new TypePredicate<>(EmptyEvent1.class));
+        ReturnEventExtensionWrapperPredicate unboundPredicate = new ReturnEventExtensionWrapperPredicate(otherPredicate);
+
+        assertEquals("Bound type", ReturnEventExtensionWrapper.class, typePredicate.getBoundType());
+        assertEquals("Wrapped bound type of type predicate", EmptyEvent1.class, typePredicate.getWrappedBoundType());
+        assertNull("Wrapped bound type of unbound predicate", unboundPredicate.getWrappedBoundType());
+    }
+
 }
@@ -0,0 +1,219 @@
+/*
+ * This file is part of EventBridge.
+ * Copyright (c) 2014 QuarterCode <http://www.quartercode.com/>
+ *
+ * EventBridge is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of
+ * the License, or (at your option) any later version.
+ *
+ * EventBridge is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EventBridge. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.quartercode.eventbridge.test.extra.predicate;
+
+import static com.quartercode.eventbridge.test.ExtraAssert.assertListEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import com.quartercode.eventbridge.bridge.Event;
+import com.quartercode.eventbridge.bridge.EventPredicate;
+import com.quartercode.eventbridge.def.extra.extension.ReturnEventExtensionWrapper;
+import com.quartercode.eventbridge.def.extra.extension.ReturnEventExtensionWrapper.ReturnEventExtensionWrapperPredicate;
+import com.quartercode.eventbridge.extra.predicate.PredicateIndex;
+import com.quartercode.eventbridge.extra.predicate.TypePredicate;
+import com.quartercode.eventbridge.test.DummyEvents.EmptyEvent1;
+import com.quartercode.eventbridge.test.DummyEvents.EmptyEvent2;
+import com.quartercode.eventbridge.test.DummyEvents.InheritingEvent;
+import com.quartercode.eventbridge.test.DummyEvents.InheritingEventInterface;
+import com.quartercode.eventbridge.test.DummyEvents.InheritingEventSuper;
+
+public class PredicateIndexTest {
+
+    @Rule
+    public JUnitRuleMockery        context = new JUnitRuleMockery();
+
+    private PredicateIndex<String> index;
+
+    @Before
+    public void setUp() {
+
+        index = new PredicateIndex<>();
+    }
+
+    @Test
+    public void testGetCandidatesEmpty() {
+
+        assertListEquals("Candidates of empty index", index.getCandidates(EmptyEvent1.class));
+    }
+
+    @SuppressWarnings ("unchecked")
+    @Test
+    public void testGetCandidates() {
+
+        EventPredicate<Event> otherPredicate = context.mock(EventPredicate.class);
+
+        index.add("empty1", new TypePredicate<>(EmptyEvent1.class));
+        index.add("other", otherPredicate);
+        index.add("super", new TypePredicate<>(InheritingEventSuper.class));
+        index.add("interface", new TypePredicate<>(InheritingEventInterface.class));
+        index.add("empty2", new TypePredicate<>(EmptyEvent2.class));
+        index.add("inheriting", new TypePredicate<>(InheritingEvent.class));
+
+        assertListEquals("Candidates for EmptyEvent1", index.getCandidates(EmptyEvent1.class), "empty1", "other");
+        assertListEquals("Candidates for EmptyEvent2", index.getCandidates(EmptyEvent2.class), "other", "empty2");
+        assertListEquals("Candidates for InheritingEventSuper", index.getCandidates(InheritingEventSuper.class), "other", "super");
+        assertListEquals("Candidates for InheritingEvent", index.getCandidates(InheritingEvent.class), "other", "super", "interface", "inheriting");
+    }
+
+    @SuppressWarnings ("unchecked")
+    @Test
+    public void testGetCandidatesWrapping() {
+
+        EventPredicate<Event> otherPredicate = context.mock(EventPredicate.class);
+
+        index.add("wrapped1", new ReturnEventExtensionWrapperPredicate(new TypePredicate<>(EmptyEvent1.class)));
+        index.add("wrappedSuper", new ReturnEventExtensionWrapperPredicate(new TypePredicate<>(InheritingEventSuper.class)));
+        index.add("empty1", new TypePredicate<>(EmptyEvent1.class));
+        index.add("wrappedOther", new ReturnEventExtensionWrapperPredicate(otherPredicate));
+
+        assertListEquals("Candidates for wrapped EmptyEvent1", index.getCandidates(ReturnEventExtensionWrapper.class, EmptyEvent1.class), "wrapped1", "wrappedOther");
+        assertListEquals("Candidates for wrapped InheritingEvent", index.getCandidates(ReturnEventExtensionWrapper.class, InheritingEvent.class), "wrappedSuper", "wrappedOther");
+        assertListEquals("Candidates for wrapped EmptyEvent2", index.getCandidates(ReturnEventExtensionWrapper.class, EmptyEvent2.class), "wrappedOther");
+        assertListEquals("Candidates for unknown wrapped type", index.getCandidates(ReturnEventExtensionWrapper.class), "wrapped1", "wrappedSuper", "wrappedOther");
+        assertListEquals("Candidates for EmptyEvent1", index.getCandidates(EmptyEvent1.class, EmptyEvent1.class), "empty1");
+
+        assertTrue("Index didn't remove a value it stored", index.remove("wrapped1"));
+        assertListEquals("Candidates for wrapped EmptyEvent1 after removal", index.getCandidates(ReturnEventExtensionWrapper.class, EmptyEvent1.class), "wrappedOther");
+        assertListEquals("Values of index after removal", index.getValues(), "wrappedSuper", "empty1", "wrappedOther");
+    }
+
+    @SuppressWarnings ("unchecked")
+    @Test
+    public void testRemove() {
+
+        EventPredicate<Event> otherPredicate = context.mock(EventPredicate.class);
+
+        index.add("empty1", new TypePredicate<>(EmptyEvent1.class));
+        index.add("other", otherPredicate);
+        index.add("empty1", new TypePredicate<>(EmptyEvent1.class));
+
+        assertFalse("Index claims to have removed a value it didn't store", index.remove("unknown"));
+
+        assertTrue("Index didn't remove a value it stored", index.remove("empty1"));
+        assertListEquals("Candidates for EmptyEvent1 after first removal", index.getCandidates(EmptyEvent1.class), "other", "empty1");
+
+        assertTrue("Index didn't remove a value it stored", index.remove("other"));
+        assertListEquals("Candidates for EmptyEvent1 after second removal", index.getCandidates(EmptyEvent1.class), "empty1");
+
+        assertTrue("Index didn't remove a value it stored", index.remove("empty1"));
+        assertListEquals("Candidates for EmptyEvent1 after third removal", index.getCandidates(EmptyEvent1.class));
+    }
+
+    @SuppressWarnings ("unchecked")
+    @Test
+    public void testGetValuesAndContains() {
+
+        EventPredicate<Event> otherPredicate = context.mock(EventPredicate.class);
+
+        index.add("empty1", new TypePredicate<>(EmptyEvent1.class));
+        index.add("other", otherPredicate);
+        index.add("empty2", new TypePredicate<>(EmptyEvent2.class));
+
+        List<String> values = index.getValues();
+        assertListEquals("Values of index", values, "empty1", "other", "empty2");
+        assertTrue("Index doesn't contain a value it stores", index.contains("other"));
+        assertFalse("Index contains a value it doesn't store", index.contains("unknown"));
+
+        index.remove("empty1");
+        assertListEquals("Values of index after removal", index.getValues(), "other", "empty2");
+        assertListEquals("Values snapshot which was retrieved before the removal", values, "empty1", "other", "empty2");
+        assertFalse("Index contains a removed value", index.contains("empty1"));
+    }
+
+    @Test
+    public void testManyValues() {
+
+        // Cross-check the index with a plain list while a lot of values are added and removed
+        List<String> expected = new ArrayList<>();
+        Random random = new Random(42);
+
+        for (int step = 0; step < 20000; step++) {
+            if (expected.isEmpty() || random.nextInt(3) != 0) {
+                String value = String.valueOf(step);
+                index.add(value, new TypePredicate<>(step % 2 == 0 ? EmptyEvent1.class : EmptyEvent2.class));
+                expected.add(value);
+            } else {
+                String value = expected.remove(random.nextInt(expected.size()));
+                assertTrue("Index didn't remove a value it stored", index.remove(value));
+            }
+        }
+
+        List<String> expectedEmpty1 = new ArrayList<>();
+        for (String value : expected) {
+            if (Integer.parseInt(value) % 2 == 0) {
+                expectedEmpty1.add(value);
+            }
+        }
+
+        assertEquals("Values of index", expected, index.getValues());
+        assertEquals("Candidates for EmptyEvent1", expectedEmpty1, index.getCandidates(EmptyEvent1.class));
+    }
+
+    @Test
+    public void testManyValuesMerged() {
+
+        // Cross-check the merging of multiple buckets with a plain list while a lot of values are added and removed
+        List<String> expected = new ArrayList<>();
+        Random random = new Random(42);
+
+        for (int step = 0; step < 20000; step++) {
+            if (expected.isEmpty() || random.nextInt(3) != 0) {
+                String value = String.valueOf(step);
+                index.add(value, new TypePredicate<>(getManyValuesType(step)));
+                expected.add(value);
+            } else {
+                String value = expected.remove(random.nextInt(expected.size()));
+                assertTrue("Index didn't remove a value it stored", index.remove(value));
+            }
+        }
+
+        List<String> expectedInheriting = new ArrayList<>();
+        for (String value : expected) {
+            if (getManyValuesType(Integer.parseInt(value)) != EmptyEvent1.class) {
+                expectedInheriting.add(value);
+            }
+        }
+
+        assertEquals("Values of index", expected, index.getValues());
+        assertEquals("Candidates for InheritingEvent", expectedInheriting, index.getCandidates(InheritingEvent.class));
+    }
+
+    private Class<? extends Event> getManyValuesType(int step) {
+
+        switch (step % 4) {
+            case 0:
+                return InheritingEvent.class;
+            case 1:
+                return InheritingEventSuper.class;
+            case 2:
+                return InheritingEventInterface.class;
+            default:
+                return EmptyEvent1.class;
+        }
+    }
+
+}
@@ -0,0 +1,358 @@
+/*
+ * This file is part of EventBridge.
+ * Copyright (c) 2014 QuarterCode <http://www.quartercode.com/>
+ *
+ * EventBridge is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of
+ * the License, or (at your option) any later version.
+ *
+ * EventBridge is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EventBridge. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.quartercode.eventbridge.test.extra.predicate;
+
+import static com.quartercode.eventbridge.extra.predicate.MultiPredicates.and;
+import static com.quartercode.eventbridge.extra.predicate.MultiPredicates.or;
+import static com.quartercode.eventbridge.test.ExtraAssert.assertListEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import java.util.Collections;
+import java.util.List;
+import org.jmock.Expectations;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import com.quartercode.eventbridge.basic.EventPredicateBase;
+import com.quartercode.eventbridge.bridge.Event;
+import com.quartercode.eventbridge.bridge.EventPredicate;
+import com.quartercode.eventbridge.def.extra.extension.ReturnEventExtensionWrapper;
+import com.quartercode.eventbridge.def.extra.extension.ReturnEventExtensionWrapper.ReturnEventExtensionWrapperPredicate;
+import com.quartercode.eventbridge.extra.predicate.PredicateNetwork;
+import com.quartercode.eventbridge.extra.predicate.TypePredicate;
+import com.quartercode.eventbridge.test.DummyEvents.EmptyEvent1;
+import com.quartercode.eventbridge.test.DummyEvents.EmptyEvent2;
+
+public class PredicateNetworkTest {
+
+    @Rule
+    public JUnitRuleMockery          context = new JUnitRuleMockery();
+
+    private PredicateNetwork<String> network;
+
+    @Before
+    public void setUp() {
+
+        network = new PredicateNetwork<>();
+    }
+
+    @Test
+    public void testGetMatchesEmpty() {
+
+        assertTrue("New network isn't empty", network.isEmpty());
+        assertListEquals("Matches of empty network", network.getMatches(new EmptyEvent1()));
+        assertFalse("Empty network matches an event", network.matchesAny(new EmptyEvent1()));
+    }
+
+    @SuppressWarnings ("unchecked")
+    @Test
+    public void testGetMatchesSharedPredicates() {
+
+        final EmptyEvent1 event = new EmptyEvent1();
+
+        final EventPredicate<Event> shared = context.mock(EventPredicate.class, "shared");
+        final EventPredicate<Event> other1 = context.mock(EventPredicate.class, "other1");
+        final EventPredicate<Event> other2 = context.mock(EventPredicate.class, "other2");
+
+        // @formatter:off
+        context.checking(new Expectations() {{
+
+            // Each predicate must only be tested once
+            oneOf(shared).test(event);
+                will(returnValue(true));
+            oneOf(other1).test(event);
+                will(returnValue(false));
+            oneOf(other2).test(event);
+                will(returnValue(true));
+
+        }});
+        // @formatter:on
+
+        network.add("shared", shared);
+        network.add("or", or(other1, shared));
+        network.add("and1", and(shared, other1));
+        network.add("and2", and(shared, other2));
+        network.add("shared", shared);
+
+        assertListEquals("Matches", network.getMatches(event), "shared", "or", "and2", "shared");
+    }
+
+    @SuppressWarnings ("unchecked")
+    @Test
+    public void testGetMatchesSuccessiveLookups() {
+
+        final EmptyEvent1 event1 = new EmptyEvent1();
+        final EmptyEvent1 event2 = new EmptyEvent1();
+
+        final EventPredicate<Event> shared = context.mock(EventPredicate.class, "shared");
+
+        // @formatter:off
+        context.checking(new Expectations() {{
+
+            // The results of one lookup must not be reused by the next one
+            oneOf(shared).test(event1);
+                will(returnValue(true));
+            oneOf(shared).test(event2);
+                will(returnValue(false));
+
+        }});
+        // @formatter:on
+
+        network.add("shared", shared);
+        network.add("or", or(shared, new TypePredicate<Event>(EmptyEvent2.class)));
+
+        assertListEquals("Matches for first event", network.getMatches(event1), "shared", "or");
+        assertListEquals("Matches for second event", network.getMatches(event2));
+    }
+
+    @Test
+    public void testGetMatchesNestedLookup() {
+
+        EmptyEvent1 outerEvent = new EmptyEvent1();
+
+        // The nested lookup tests the same predicate with another event and must not overwrite the results of the outer lookup
+        NestedLookupPredicate nested = new NestedLookupPredicate(network, new EmptyEvent1());
+        network.add("nested", nested);
+        network.add("same", new SameEventPredicate(outerEvent));
+
+        assertListEquals("Matches for outer lookup", network.getMatches(outerEvent), "nested", "same");
+        assertListEquals("Matches for nested lookup", nested.nestedMatches);
+    }
+
+    @Test
+    public void testGetMatchesTypes() {
+
+        network.add("type1", new TypePredicate<>(EmptyEvent1.class));
+        network.add("type2", new TypePredicate<>(EmptyEvent2.class));
+        network.add("or", or(new TypePredicate<Event>(EmptyEvent1.class), new TypePredicate<Event>(EmptyEvent2.class)));
+
+        assertListEquals("Matches for EmptyEvent1", network.getMatches(new EmptyEvent1()), "type1", "or");
+        assertListEquals("Matches for EmptyEvent2", network.getMatches(new EmptyEvent2()), "type2", "or");
+    }
+
+    @Test
+    public void testGetMatchesWrongGenericType() {
+
+        // The whole multi predicate is false if the event doesn't fit the generic type of a tested child predicate
+        network.add("or", or(new EmptyEvent1Predicate(), new TypePredicate<Event>(EmptyEvent2.class)));
+        network.add("type2", new TypePredicate<>(EmptyEvent2.class));
+
+        assertListEquals("Matches for EmptyEvent1", network.getMatches(new EmptyEvent1()), "or");
+        assertListEquals("Matches for EmptyEvent2", network.getMatches(new EmptyEvent2()), "type2");
+    }
+
+    @Test
+    public void testGetMatchesWrappingEvents() {
+
+        network.add("wrapped1", new ReturnEventExtensionWrapperPredicate(new TypePredicate<>(EmptyEvent1.class)));
+        network.add("type1", new TypePredicate<>(EmptyEvent1.class));
+        network.add("wrapped2", new ReturnEventExtensionWrapperPredicate(new TypePredicate<>(EmptyEvent2.class)));
+
+        for (boolean classCacheEnabled : new boolean[] { false, true }) {
+            network.setClassCacheEnabled(classCacheEnabled);
+
+            // The second lookups are answered by the class cache, which must distinguish the classes of the wrapped events
+            for (int lookup = 0; lookup < 2; lookup++) {
+                assertListEquals("Matches for wrapped EmptyEvent1", network.getMatches(new ReturnEventExtensionWrapper(new EmptyEvent1(), 0, false)), "wrapped1");
+                assertListEquals("Matches for wrapped EmptyEvent2", network.getMatches(new ReturnEventExtensionWrapper(new EmptyEvent2(), 0, false)), "wrapped2");
+                assertListEquals("Matches for wrapped null", network.getMatches(new ReturnEventExtensionWrapper(null, 0, false)));
+                assertListEquals("Matches for EmptyEvent1", network.getMatches(new EmptyEvent1()), "type1");
+            }
+        }
+    }
+
+    @Test
+    public void testMatchesAny() {
+
+        network.add("type1", new TypePredicate<>(EmptyEvent1.class));
+
+        assertTrue("Network doesn't match event", network.matchesAny(new EmptyEvent1()));
+        assertFalse("Network matches event", network.matchesAny(new EmptyEvent2()));
+    }
+
+    @Test
+    public void testRemove() {
+
+        network.add("type1", new TypePredicate<>(EmptyEvent1.class));
+        network.add("or", or(new TypePredicate<Event>(EmptyEvent1.class), new TypePredicate<Event>(EmptyEvent2.class)));
+
+        assertFalse("Network claims to have removed a value it didn't store", network.remove("unknown"));
+
+        assertTrue("Network didn't remove a value it stored", network.remove("type1"));
+        assertListEquals("Matches after first removal", network.getMatches(new EmptyEvent1()), "or");
+
+        assertTrue("Network didn't remove a value it stored", network.remove("or"));
+        assertListEquals("Matches after second removal", network.getMatches(new EmptyEvent1()));
+        assertTrue("Network isn't empty after all values were removed", network.isEmpty());
+
+        // Released nodes must not break new ones
+        network.add("and", and(new TypePredicate<Event>(EmptyEvent2.class), new TypePredicate<Event>(EmptyEvent2.class)));
+        network.add("type1", new TypePredicate<>(EmptyEvent1.class));
+        assertListEquals("Matches for EmptyEvent1 after readding", network.getMatches(new EmptyEvent1()), "type1");
+        assertListEquals("Matches for EmptyEvent2 after readding", network.getMatches(new EmptyEvent2()), "and");
+    }
+
+    @Test
+    public void testGetValuesAndContains() {
+
+        network.add("type1", new TypePredicate<>(EmptyEvent1.class));
+        network.add("or", or(new TypePredicate<Event>(EmptyEvent1.class), new TypePredicate<Event>(EmptyEvent2.class)));
+        network.add("type1", new TypePredicate<>(EmptyEvent1.class));
+
+        assertListEquals("Values of network", network.getValues(), "type1", "or", "type1");
+        assertTrue("Network doesn't contain a value it stores", network.contains("or"));
+
+        network.remove("type1");
+        assertListEquals("Values of network after first removal", network.getValues(), "or", "type1");
+        assertTrue("Network doesn't contain a value it still stores once", network.contains("type1"));
+
+        network.remove("type1");
+        assertListEquals("Values of network after second removal", network.getValues(), "or");
+        assertFalse("Network contains a removed value", network.contains("type1"));
+    }
+
+    @SuppressWarnings ("unchecked")
+    @Test
+    public void testClassCache() {
+
+        final EmptyEvent1 event1 = new EmptyEvent1();
+        final EmptyEvent1 event2 = new EmptyEvent1();
+
+        final EventPredicate<Event> dynamic = context.mock(EventPredicate.class);
+
+        // @formatter:off
+        context.checking(new Expectations() {{
+
+            // Predicates which don't only depend on the event class must be tested for every event
+            exactly(3).of(dynamic).test(event1);
+                will(returnValue(true));
+            exactly(3).of(dynamic).test(event2);
+                will(returnValue(false));
+
+        }});
+        // @formatter:on
+
+        network.setClassCacheEnabled(true);
+        assertTrue("Class cache isn't enabled", network.isClassCacheEnabled());
+        network.setClassCacheCountersEnabled(true);
+        assertTrue("Class cache counters aren't enabled", network.isClassCacheCountersEnabled());
+
+        network.add("type1", new TypePredicate<>(EmptyEvent1.class));
+        network.add("dynamic", dynamic);
+        network.add("or", or(new TypePredicate<Event>(EmptyEvent1.class), new TypePredicate<Event>(EmptyEvent2.class)));
+        network.add("type2", new TypePredicate<>(EmptyEvent2.class));
+
+        assertListEquals("Matches for first event", network.getMatches(event1), "type1", "dynamic", "or");
+        assertListEquals("Matches for second event", network.getMatches(event2), "type1", "or");
+        assertEquals("Class cache hits", 1, network.getClassCacheHits());
+        assertEquals("Class cache misses", 1, network.getClassCacheMisses());
+
+        // Adding a value must invalidate the cache
+        network.add("type1", new TypePredicate<>(EmptyEvent1.class));
+        assertListEquals("Matches for first event after addition", network.getMatches(event1), "type1", "dynamic", "or", "type1");
+        assertListEquals("Matches for second event after addition", network.getMatches(event2), "type1", "or", "type1");
+        assertEquals("Class cache hits", 2, network.getClassCacheHits());
+        assertEquals("Class cache misses", 2, network.getClassCacheMisses());
+
+        // Static matches don't require any predicate to be tested
+        assertTrue("Network doesn't match event", network.matchesAny(event1));
+        assertTrue("Network doesn't match event", network.matchesAny(new EmptyEvent2()));
+
+        network.remove("type1");
+        network.remove("or");
+        network.remove("type1");
+        assertTrue("Network doesn't match event", network.matchesAny(event1));
+        assertFalse("Network matches event", network.matchesAny(event2));
+    }
+
+    @Test
+    public void testClassCacheCountersDisabled() {
+
+        network.setClassCacheEnabled(true);
+        network.add("type1", new TypePredicate<>(EmptyEvent1.class));
+
+        network.getMatches(new EmptyEvent1());
+        network.getMatches(new EmptyEvent1());
+        assertEquals("Class cache hits", 0, network.getClassCacheHits());
+        assertEquals("Class cache misses", 0, network.getClassCacheMisses());
+    }
+
+    private static class NestedLookupPredicate extends EventPredicateBase<Event> {
+
+        private static final long                  serialVersionUID = -3318045577612440619L;
+
+        private final transient PredicateNetwork<?> network;
+        private final transient Event               nestedEvent;
+        private transient List<?>                   nestedMatches;
+
+        private NestedLookupPredicate(PredicateNetwork<?> network, Event nestedEvent) {
+
+            this.network = network;
+            this.nestedEvent = nestedEvent;
+        }
+
+        @Override
+        public boolean test(Event event) {
+
+            // Only match the outer lookup
+            if (nestedMatches != null) {
+                return false;
+            }
+
+            nestedMatches = Collections.emptyList();
+            nestedMatches = network.getMatches(nestedEvent);
+            return true;
+        }
+
+    }
+
+    private static class SameEventPredicate extends EventPredicateBase<Event> {
+
+        private static final long     serialVersionUID = 7746302914468390152L;
+
+        private final transient Event event;
+
+        private SameEventPredicate(Event event) {
+
+            this.event = event;
+        }
+
+        @Override
+        public boolean test(Event event) {
+
+            return event == this.event;
+        }
+
+    }
+
+    private static class EmptyEvent1Predicate extends EventPredicateBase<EmptyEvent1> {
+
+        private static final long serialVersionUID = 4371290394385372951L;
+
+        @Override
+        public boolean test(EmptyEvent1 event) {
+
+            return true;
+        }
+
+    }
+
+}